@@ -1,8 +1,16 @@
 package fi.fmi.avi.converter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * AviMessageConverter converts an aviation weather message from one type to another.
@@ -16,11 +24,21 @@ import java.util.Set;
  *  }
  * </pre>
  *
+ * The registered converters are kept in an immutable snapshot which is replaced on every
+ * {@link #setMessageSpecificConverter(ConversionSpecification, AviMessageSpecificConverter)} call.
+ * Once configured, the lookups are a single hash probe and safe to run from any number of threads
+ * concurrently. Callers converting many messages with the same specification may also resolve
+ * the {@link AviMessageSpecificConverter} once using {@link #getConverter(ConversionSpecification)}
+ * and call it directly. Note that the conversions run using the returned converter directly are not reported
+ * to the {@link ConversionMetricsListener} set with {@link #setMetricsListener(ConversionMetricsListener)}.
+ *
  * @author Ilkka Rinne / Spatineo Oy 2017
  */
 public class AviMessageConverter {
 
-    private final Map<ConversionSpecification<?, ?>, AviMessageSpecificConverter<?, ?>> converters = new HashMap<>();
+    private volatile Map<ConversionSpecification<?, ?>, AviMessageSpecificConverter<?, ?>> converters = Collections.emptyMap();
+    private volatile Executor asyncExecutor = ConversionExecutors.defaultAsyncExecutor();
+    private volatile ConversionMetricsListener metricsListener;
 
     /**
      * Converts the given message according to the <code>spec</code>.
@@ -65,14 +83,132 @@ public class AviMessageConverter {
      *
      * @return the result of the conversion
      */
-    @SuppressWarnings("unchecked")
     public <S, T> ConversionResult<T> convertMessage(final S input, final ConversionSpecification<S, T> spec, final ConversionHints hints) {
-        for (final ConversionSpecification<?, ?> toMatch : converters.keySet()) {
-            if (toMatch.equals(spec)) {
-                return ((AviMessageSpecificConverter<S, T>) converters.get(spec)).convertMessage(input, hints);
-            }
+        return getInstrumentedConverter(spec).convertMessage(input, hints);
+    }
+
+    /**
+     * Converts the given message according to the <code>spec</code> asynchronously, using
+     * the executor set with {@link #setAsyncExecutor(Executor)}.
+     *
+     * @param input
+     *         the input message
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param <S>
+     *         the type of the input message
+     * @param <T>
+     *         the type of the output message
+     *
+     * @return future completed with the result of the conversion, or exceptionally if the conversion throws
+     *
+     * @throws IllegalArgumentException
+     *         if the specification is not supported
+     */
+    public <S, T> CompletableFuture<ConversionResult<T>> convertMessageAsync(final S input, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints) {
+        return getInstrumentedConverter(spec).convertMessageAsync(input, hints, asyncExecutor);
+    }
+
+    /**
+     * Converts a collection of messages according to the <code>spec</code>, one after another on the calling thread.
+     *
+     * The converter for <code>spec</code> is resolved once for the whole batch, and the hints are shared as an
+     * immutable copy. An exception thrown while converting one message is reported as a {@link ConversionResult.Status#FAIL}
+     * result for that message only, the rest of the batch is converted normally.
+     *
+     * @param inputs
+     *         the input messages
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param <S>
+     *         the type of the input messages
+     * @param <T>
+     *         the type of the output messages
+     *
+     * @return the results of the conversions, in the iteration order of <code>inputs</code>
+     */
+    public <S, T> List<ConversionResult<T>> convertMessages(final Collection<? extends S> inputs, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints) {
+        final AviMessageSpecificConverter<S, T> converter = getInstrumentedConverter(spec);
+        final ConversionHints sharedHints = immutableHints(hints);
+        final List<ConversionResult<T>> results = new ArrayList<>(inputs.size());
+        for (final S input : inputs) {
+            results.add(convertSafely(converter, input, sharedHints));
         }
-        throw new IllegalArgumentException("No converter for conversion specification " + spec + ", check configuration");
+        return results;
+    }
+
+    /**
+     * Converts a collection of messages according to the <code>spec</code>, running the individual conversions
+     * in parallel on the given <code>executor</code>. Any {@link Executor}, including a
+     * {@link java.util.concurrent.ForkJoinPool}, may be used. The method blocks until all the conversions are finished.
+     *
+     * The converter for <code>spec</code> is resolved once for the whole batch, and the hints are shared as an
+     * immutable copy. An exception thrown while converting one message is reported as a {@link ConversionResult.Status#FAIL}
+     * result for that message only, the rest of the batch is converted normally.
+     *
+     * @param inputs
+     *         the input messages
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param executor
+     *         the executor to run the conversions on
+     * @param <S>
+     *         the type of the input messages
+     * @param <T>
+     *         the type of the output messages
+     *
+     * @return the results of the conversions, in the iteration order of <code>inputs</code>
+     */
+    public <S, T> List<ConversionResult<T>> convertMessages(final Collection<? extends S> inputs, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints, final Executor executor) {
+        final AviMessageSpecificConverter<S, T> converter = getInstrumentedConverter(spec);
+        final ConversionHints sharedHints = immutableHints(hints);
+        final List<CompletableFuture<ConversionResult<T>>> futures = new ArrayList<>(inputs.size());
+        for (final S input : inputs) {
+            futures.add(CompletableFuture.supplyAsync(() -> convertSafely(converter, input, sharedHints), executor));
+        }
+        final List<ConversionResult<T>> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<ConversionResult<T>> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Lazily converts a stream of messages according to the <code>spec</code>.
+     *
+     * The returned stream keeps the encounter order and the parallelism of <code>inputs</code>: a parallel
+     * input stream is converted in parallel on the fork-join pool the terminal operation is run in.
+     * The converter for <code>spec</code> is resolved once, and the hints are shared as an immutable copy.
+     * An exception thrown while converting one message is reported as a {@link ConversionResult.Status#FAIL}
+     * result for that message only.
+     *
+     * @param inputs
+     *         the input messages
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param <S>
+     *         the type of the input messages
+     * @param <T>
+     *         the type of the output messages
+     *
+     * @return stream of conversion results
+     */
+    public <S, T> Stream<ConversionResult<T>> convertMessages(final Stream<? extends S> inputs, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints) {
+        final AviMessageSpecificConverter<S, T> converter = getInstrumentedConverter(spec);
+        final ConversionHints sharedHints = immutableHints(hints);
+        return inputs.map(input -> convertSafely(converter, input, sharedHints));
     }
 
     /**
@@ -87,8 +223,34 @@ public class AviMessageConverter {
      * @param <T>
      *         target object class
      */
-    public <S, T> void setMessageSpecificConverter(final ConversionSpecification<S, T> spec, final AviMessageSpecificConverter<S, T> converter) {
-        this.converters.put(spec, converter);
+    public synchronized <S, T> void setMessageSpecificConverter(final ConversionSpecification<S, T> spec,
+            final AviMessageSpecificConverter<S, T> converter) {
+        final Map<ConversionSpecification<?, ?>, AviMessageSpecificConverter<?, ?>> updated = new HashMap<>(this.converters);
+        updated.put(spec, converter);
+        this.converters = Collections.unmodifiableMap(updated);
+    }
+
+    /**
+     * Sets the executor used by {@link #convertMessageAsync(Object, ConversionSpecification, ConversionHints)}.
+     * Defaults to {@link ConversionExecutors#defaultAsyncExecutor()}. A bounded executor may be used to limit
+     * the number of conversions in progress.
+     *
+     * @param executor
+     *         the executor to run asynchronous conversions on
+     */
+    public void setAsyncExecutor(final Executor executor) {
+        this.asyncExecutor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Sets the listener receiving the metrics of the conversions run using this converter, or null to disable
+     * the metrics collection. No listener is set by default.
+     *
+     * @param listener
+     *         the listener to notify after each conversion
+     */
+    public void setMetricsListener(final ConversionMetricsListener listener) {
+        this.metricsListener = listener;
     }
 
     /**
@@ -103,10 +265,47 @@ public class AviMessageConverter {
         return this.converters.containsKey(spec);
     }
 
+    /**
+     * Returns the converter registered for the given specification. The returned converter may be
+     * stored and re-used by the caller to skip the lookup on subsequent conversions.
+     *
+     * @param spec
+     *         the specification to look up
+     * @param <U>
+     *         source object class
+     * @param <Z>
+     *         target object class
+     *
+     * @return the converter, or null if the specification is not supported
+     */
+    @SuppressWarnings("unchecked")
     public <U, Z> AviMessageSpecificConverter<U, Z> getConverter(final ConversionSpecification<U, Z> spec) {
         return (AviMessageSpecificConverter<U, Z>) this.converters.get(spec);
     }
 
+    /**
+     * Returns the converter registered for the given specification.
+     *
+     * @param spec
+     *         the specification to look up
+     * @param <U>
+     *         source object class
+     * @param <Z>
+     *         target object class
+     *
+     * @return the converter
+     *
+     * @throws IllegalArgumentException
+     *         if the specification is not supported
+     */
+    public <U, Z> AviMessageSpecificConverter<U, Z> getRequiredConverter(final ConversionSpecification<U, Z> spec) {
+        final AviMessageSpecificConverter<U, Z> converter = getConverter(spec);
+        if (converter == null) {
+            throw new IllegalArgumentException("No converter for conversion specification " + spec + ", check configuration");
+        }
+        return converter;
+    }
+
     /**
      * Returns all the {@link ConversionSpecification}s supported by this
      * AviMessageConverter implementation.
@@ -117,4 +316,38 @@ public class AviMessageConverter {
         return this.converters.keySet();
     }
 
+    private <S, T> AviMessageSpecificConverter<S, T> getInstrumentedConverter(final ConversionSpecification<S, T> spec) {
+        final AviMessageSpecificConverter<S, T> converter = getRequiredConverter(spec);
+        final ConversionMetricsListener listener = this.metricsListener;
+        if (listener == null) {
+            return converter;
+        }
+        return (input, hints) -> {
+            final long start = System.nanoTime();
+            final ConversionResult<T> result = converter.convertMessage(input, hints);
+            final long duration = System.nanoTime() - start;
+            if (result != null) {
+                listener.conversionCompleted(spec, duration, ConversionMetricsListener.sizeOf(input),
+                        ConversionMetricsListener.sizeOf(result.getConvertedMessage().orElse(null)), result);
+            }
+            return result;
+        };
+    }
+
+    private static ConversionHints immutableHints(final ConversionHints hints) {
+        return hints == null ? null : ConversionHints.immutableCopyOf(hints);
+    }
+
+    private static <S, T> ConversionResult<T> convertSafely(final AviMessageSpecificConverter<S, T> converter, final S input,
+            final ConversionHints hints) {
+        try {
+            return converter.convertMessage(input, hints);
+        } catch (final RuntimeException e) {
+            final ConversionResult<T> result = new ConversionResult<>();
+            result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Exception in converting message", e));
+            result.setStatus(ConversionResult.Status.FAIL);
+            return result;
+        }
+    }
+
 }
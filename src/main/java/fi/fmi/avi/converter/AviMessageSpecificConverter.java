@@ -1,5 +1,8 @@
 package fi.fmi.avi.converter;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * A converter capable only processing a specific type of input message to a particular
  * output.
@@ -25,4 +28,34 @@ public interface AviMessageSpecificConverter<S, T> {
      * @return the {@link ConversionResult} with the converter message and the possible conversion issues
      */
     ConversionResult<T> convertMessage(S input, ConversionHints hints);
+
+    /**
+     * Converts a single message asynchronously using {@link ConversionExecutors#defaultAsyncExecutor()}.
+     *
+     * @param input
+     *         input message
+     * @param hints
+     *         parsing hints
+     *
+     * @return future completed with the {@link ConversionResult}, or exceptionally if the conversion throws
+     */
+    default CompletableFuture<ConversionResult<T>> convertMessageAsync(final S input, final ConversionHints hints) {
+        return convertMessageAsync(input, hints, ConversionExecutors.defaultAsyncExecutor());
+    }
+
+    /**
+     * Converts a single message asynchronously on the given executor.
+     *
+     * @param input
+     *         input message
+     * @param hints
+     *         parsing hints
+     * @param executor
+     *         the executor to run the conversion on
+     *
+     * @return future completed with the {@link ConversionResult}, or exceptionally if the conversion throws
+     */
+    default CompletableFuture<ConversionResult<T>> convertMessageAsync(final S input, final ConversionHints hints, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> convertMessage(input, hints), executor);
+    }
 }
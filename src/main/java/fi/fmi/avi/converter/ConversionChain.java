@@ -0,0 +1,281 @@
+package fi.fmi.avi.converter;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A compiled chain of conversion steps created by {@link ConversionChainBuilder#build(ConversionSpecification)}.
+ *
+ * The type compatibility of the adjacent steps is verified once when the chain is created. Conversion steps
+ * statically known to accept the output of the previous step are run without any per-message type checks.
+ * All the conversion issues of a single conversion are collected directly into the returned
+ * {@link ConversionResult}.
+ *
+ * The chain records the number of invocations and the cumulative time spent in each step, available
+ * using {@link #getStepTimings()}. If a {@link ConversionMetricsListener} has been given using
+ * {@link ConversionChainBuilder#withMetricsListener(ConversionMetricsListener)}, it is notified after each
+ * conversion step, but not after the mutator steps. Instances are immutable apart from these counters, and safe to use from
+ * multiple threads concurrently.
+ *
+ * @param <S>
+ *         input message type
+ * @param <T>
+ *         output message type
+ */
+public final class ConversionChain<S, T> implements AviMessageSpecificConverter<S, T> {
+
+    private final Step[] steps;
+    private final ConversionResult.Status requiredStatus;
+    private final ConversionMetricsListener metricsListener;
+
+    ConversionChain(final List<Step> steps, final ConversionResult.Status requiredStatus, final ConversionMetricsListener metricsListener) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Conversion chain must contain at least one step");
+        }
+        this.steps = steps.toArray(new Step[0]);
+        this.requiredStatus = Objects.requireNonNull(requiredStatus, "requiredStatus");
+        this.metricsListener = metricsListener;
+        for (int i = 1; i < this.steps.length; i++) {
+            this.steps[i].bindToPreviousStep(this.steps[i - 1]);
+        }
+    }
+
+    private static boolean isCastPossible(final Class<?> from, final Class<?> to) {
+        if (to.isAssignableFrom(from) || from.isAssignableFrom(to)) {
+            return true;
+        }
+        if (from.isInterface()) {
+            return to.isInterface() || !Modifier.isFinal(to.getModifiers());
+        }
+        return to.isInterface() && !Modifier.isFinal(from.getModifiers());
+    }
+
+    /**
+     * Runs the message through all the steps of the chain.
+     *
+     * If a step other than the last one results in a more critical status than the status required
+     * by the chain, or produces no output, the conversion stops and the result has no converted message.
+     * The first step is always run, also for a null input, so that its converter can report the issue.
+     *
+     * @param input
+     *         input message
+     * @param hints
+     *         hints passed to each step
+     *
+     * @return result containing the issues of all the executed steps
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ConversionResult<T> convertMessage(final S input, final ConversionHints hints) {
+        final ConversionResult<T> retval = new ConversionResult<>();
+        // The initial converter is given a null input too, so that it can report the issue
+        Object msg = applyStep(0, input, hints, retval);
+        for (int i = 1; i < steps.length && msg != null; i++) {
+            msg = applyStep(i, msg, hints, retval);
+        }
+        retval.setConvertedMessage((T) msg);
+        return retval;
+    }
+
+    int getStepCount() {
+        return steps.length;
+    }
+
+    Object applyStep(final int index, final Object msg, final ConversionHints hints, final ConversionResult<?> issues) {
+        return steps[index].apply(msg, hints, issues, index < steps.length - 1 ? requiredStatus : null, metricsListener);
+    }
+
+    /**
+     * Returns the specifications of the steps in this chain, in execution order.
+     *
+     * @return step specifications
+     */
+    public List<ConversionSpecification<?, ?>> getStepSpecifications() {
+        final List<ConversionSpecification<?, ?>> retval = new ArrayList<>(steps.length);
+        for (final Step step : steps) {
+            retval.add(step.specification);
+        }
+        return Collections.unmodifiableList(retval);
+    }
+
+    /**
+     * Returns a snapshot of the timing counters of each step, in execution order.
+     *
+     * @return step timings
+     */
+    public List<StepTiming> getStepTimings() {
+        final List<StepTiming> retval = new ArrayList<>(steps.length);
+        for (final Step step : steps) {
+            retval.add(new StepTiming(step.specification, step.invocations.sum(), step.totalNanos.sum()));
+        }
+        return Collections.unmodifiableList(retval);
+    }
+
+    /**
+     * A single step in a conversion chain.
+     */
+    abstract static class Step {
+        private final ConversionSpecification<?, ?> specification;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private boolean inputCheckRequired;
+
+        Step(final ConversionSpecification<?, ?> specification) {
+            this.specification = specification;
+        }
+
+        static Step of(final ConversionSpecification<?, ?> specification, final AviMessageSpecificConverter<?, ?> converter) {
+            return new ConverterStep(specification, converter);
+        }
+
+        static Step of(final ConversionSpecification<?, ?> specification, final Function<?, ?> mutator) {
+            return new MutatorStep(specification, mutator);
+        }
+
+        ConversionSpecification<?, ?> getSpecification() {
+            return specification;
+        }
+
+        private void bindToPreviousStep(final Step previous) {
+            final Class<?> from = previous.specification.getOutputClass();
+            final Class<?> to = this.specification.getInputClass();
+            if (from == null || to == null || to.isAssignableFrom(from)) {
+                this.inputCheckRequired = false;
+            } else if (isCastPossible(from, to)) {
+                this.inputCheckRequired = true;
+            } else {
+                throw new IllegalArgumentException(
+                        "Cannot use the output of conversion step " + previous.specification + " as input for the conversion step " + specification);
+            }
+        }
+
+        /**
+         * Applies this step.
+         *
+         * @param msg
+         *         input message, null only for the first step
+         * @param hints
+         *         conversion hints
+         * @param issues
+         *         the result to collect the issues to
+         * @param requiredStatus
+         *         the least critical status with which the output is passed on, or null to always pass on the output
+         * @param listener
+         *         listener to report the step metrics to, or null
+         *
+         * @return the output of the step, or null if the chain should be stopped
+         */
+        final Object apply(final Object msg, final ConversionHints hints, final ConversionResult<?> issues, final ConversionResult.Status requiredStatus,
+                final ConversionMetricsListener listener) {
+            if (inputCheckRequired && !specification.getInputClass().isInstance(msg)) {
+                issues.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER,
+                        "Cannot use intermediate result of " + "type " + msg.getClass().getCanonicalName() + " as input for the conversion step "
+                                + specification));
+                return null;
+            }
+            final long start = System.nanoTime();
+            try {
+                return doApply(msg, hints, issues, requiredStatus, listener);
+            } finally {
+                totalNanos.add(System.nanoTime() - start);
+                invocations.increment();
+            }
+        }
+
+        abstract Object doApply(Object msg, ConversionHints hints, ConversionResult<?> issues, ConversionResult.Status requiredStatus,
+                ConversionMetricsListener listener);
+    }
+
+    private static final class ConverterStep extends Step {
+        @SuppressWarnings("rawtypes")
+        private final AviMessageSpecificConverter converter;
+
+        ConverterStep(final ConversionSpecification<?, ?> specification, final AviMessageSpecificConverter<?, ?> converter) {
+            super(specification);
+            this.converter = converter;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object doApply(final Object msg, final ConversionHints hints, final ConversionResult<?> issues, final ConversionResult.Status requiredStatus,
+                final ConversionMetricsListener listener) {
+            final ConversionResult<?> result;
+            if (listener == null) {
+                result = converter.convertMessage(msg, hints);
+            } else {
+                final long start = System.nanoTime();
+                result = converter.convertMessage(msg, hints);
+                listener.conversionCompleted(getSpecification(), System.nanoTime() - start, ConversionMetricsListener.sizeOf(msg),
+                        ConversionMetricsListener.sizeOf(result.getConvertedMessage().orElse(null)), result);
+            }
+            issues.addIssue(result.getConversionIssues());
+            if (requiredStatus != null && ConversionResult.Status.isMoreCritical(result.getStatus(), requiredStatus)) {
+                return null;
+            }
+            return result.getConvertedMessage().orElse(null);
+        }
+    }
+
+    private static final class MutatorStep extends Step {
+        @SuppressWarnings("rawtypes")
+        private final Function mutator;
+
+        MutatorStep(final ConversionSpecification<?, ?> specification, final Function<?, ?> mutator) {
+            super(specification);
+            this.mutator = mutator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object doApply(final Object msg, final ConversionHints hints, final ConversionResult<?> issues, final ConversionResult.Status requiredStatus,
+                final ConversionMetricsListener listener) {
+            try {
+                return mutator.apply(msg);
+            } catch (final Exception e) {
+                issues.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Exception in applying mutator function", e));
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Invocation count and cumulative execution time of a single chain step.
+     */
+    public static final class StepTiming {
+        private final ConversionSpecification<?, ?> specification;
+        private final long invocations;
+        private final long totalNanos;
+
+        StepTiming(final ConversionSpecification<?, ?> specification, final long invocations, final long totalNanos) {
+            this.specification = specification;
+            this.invocations = invocations;
+            this.totalNanos = totalNanos;
+        }
+
+        public ConversionSpecification<?, ?> getSpecification() {
+            return specification;
+        }
+
+        public long getInvocations() {
+            return invocations;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public double getAverageNanos() {
+            return invocations == 0 ? 0.0 : (double) totalNanos / invocations;
+        }
+
+        @Override
+        public String toString() {
+            return specification + ": " + invocations + " invocations, " + totalNanos + " ns";
+        }
+    }
+}
@@ -2,13 +2,15 @@ package fi.fmi.avi.converter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public class ConversionChainBuilder<S> {
     private final AviMessageConverter converter;
-    private final List<AviMessageSpecificConverter> converters = new ArrayList<>();
-    private final List<ConversionSpecification> specifications = new ArrayList<>();
+    private final List<ConversionChain.Step> steps = new ArrayList<>();
     private final ConversionResult.Status requiredStatus;
+    private ConversionMetricsListener metricsListener;
 
     public ConversionChainBuilder(final AviMessageConverter converter, final ConversionSpecification<S, ?> initialStep,
             final ConversionResult.Status requiredStatus) {
@@ -22,65 +24,92 @@ public class ConversionChainBuilder<S> {
     }
 
     public ConversionChainBuilder<S> withConversionStep(final ConversionSpecification<?, ?> step) {
-        if (this.converter.isSpecificationSupported(step)) {
-            this.specifications.add(step);
-            this.converters.add(this.converter.getConverter(step));
-        } else {
+        final AviMessageSpecificConverter<?, ?> stepConverter = this.converter.getConverter(step);
+        if (stepConverter == null) {
             throw new IllegalArgumentException("Conversion " + step + " not supported, please check converter configuration");
         }
+        this.steps.add(ConversionChain.Step.of(step, stepConverter));
+        return this;
+    }
+
+    /**
+     * Sets the listener notified after each conversion step of the built chains.
+     *
+     * @param listener
+     *         the listener, or null to disable the metrics collection
+     *
+     * @return this builder
+     */
+    public ConversionChainBuilder<S> withMetricsListener(final ConversionMetricsListener listener) {
+        this.metricsListener = listener;
         return this;
     }
 
     public <U, T> ConversionChainBuilder<S> withMutator(final Function<U, T> mutator, final Class<U> inputClz, final Class<T> outputClz) {
-        this.converters.add((AviMessageSpecificConverter<U, T>) (input, hints) -> {
-            final ConversionResult<T> result = new ConversionResult<>();
-            try {
-                result.setConvertedMessage(mutator.apply(input));
-            } catch (final Exception e) {
-                result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Exception in applying mutator function", e));
-            }
-            return result;
-        });
-        this.specifications.add(new ConversionSpecification<>(inputClz, outputClz));
+        this.steps.add(ConversionChain.Step.of(new ConversionSpecification<>(inputClz, outputClz), mutator));
         return this;
     }
 
-    public <T> AviMessageSpecificConverter<S, T> build(final ConversionSpecification<?, T> finalStep) {
+    /**
+     * Adds the final conversion step and compiles the chain.
+     *
+     * @param finalStep
+     *         the last conversion step
+     * @param <T>
+     *         the output type of the chain
+     *
+     * @return the compiled conversion chain
+     *
+     * @throws IllegalArgumentException
+     *         if the output of some step can never be used as the input of the following step
+     */
+    public <T> ConversionChain<S, T> build(final ConversionSpecification<?, T> finalStep) {
         this.withConversionStep(finalStep);
-        return (input, hints) -> {
-            final ConversionResult<T> retval = new ConversionResult<>();
-            final AviMessageSpecificConverter initial = converters.get(0);
-            ConversionResult result = initial.convertMessage(input, hints);
-            for (int i = 1; i < converters.size(); i++) {
-                retval.addIssue(result.getConversionIssues());
-                if (ConversionResult.Status.isMoreCritical(result.getStatus(), requiredStatus)) {
-                    result.setConvertedMessage(null);
-                    break;
-                }
-                if (!result.getConvertedMessage().isPresent()) {
-                    break;
-                }
-                final Object msg = result.getConvertedMessage().get();
-                result = convertSingleMessage(msg, specifications.get(i), converters.get(i), hints);
+        return new ConversionChain<>(new ArrayList<>(this.steps), requiredStatus, metricsListener);
+    }
 
-            }
-            if (result.getConvertedMessage().isPresent()) {
-                retval.setConvertedMessage((T) result.getConvertedMessage().get());
-            }
-            return retval;
-        };
+    /**
+     * Adds the final conversion step and creates a pipelined chain, running each step on its own worker
+     * thread with bounded queues of the given capacity between the steps.
+     *
+     * The worker threads are created as daemon threads for each
+     * {@link PipelinedConversionChain#convertMessages(java.util.Iterator, ConversionHints, java.util.function.Consumer)} call.
+     *
+     * @param finalStep
+     *         the last conversion step
+     * @param queueCapacity
+     *         maximum number of messages waiting for each step
+     * @param <T>
+     *         the output type of the chain
+     *
+     * @return the pipelined conversion chain
+     */
+    public <T> PipelinedConversionChain<S, T> buildPipelined(final ConversionSpecification<?, T> finalStep, final int queueCapacity) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return buildPipelined(finalStep, queueCapacity, task -> {
+            final Thread thread = new Thread(task, "conversion-pipeline-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.start();
+        });
     }
 
-    private ConversionResult<?> convertSingleMessage(final Object msg, final ConversionSpecification spec, final AviMessageSpecificConverter converter,
-            final ConversionHints hints) {
-        ConversionResult<?> retval = new ConversionResult<>();
-        if (!spec.getInputClass().isAssignableFrom(msg.getClass())) {
-            retval.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER,
-                    "Cannot use intermediate result of " + "type " + msg.getClass().getCanonicalName() + " as input for the conversion step " + spec));
-            retval.setConvertedMessage(null);
-        } else {
-            retval = converter.convertMessage(msg, hints);
-        }
-        return retval;
+    /**
+     * Adds the final conversion step and creates a pipelined chain, running each step on its own worker
+     * with bounded queues of the given capacity between the steps.
+     *
+     * @param finalStep
+     *         the last conversion step
+     * @param queueCapacity
+     *         maximum number of messages waiting for each step
+     * @param executor
+     *         executor for the workers, must be able to run one task more than there are steps in the chain concurrently
+     * @param <T>
+     *         the output type of the chain
+     *
+     * @return the pipelined conversion chain
+     */
+    public <T> PipelinedConversionChain<S, T> buildPipelined(final ConversionSpecification<?, T> finalStep, final int queueCapacity,
+            final Executor executor) {
+        return new PipelinedConversionChain<>(build(finalStep), queueCapacity, executor);
     }
 }
@@ -0,0 +1,40 @@
+package fi.fmi.avi.converter;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Provides the default {@link Executor} for the asynchronous conversion methods.
+ *
+ * On Java 21 and later the default is a virtual-thread-per-task executor, so that blocking conversions
+ * do not tie up platform threads. On earlier Java versions {@link ForkJoinPool#commonPool()} is used.
+ */
+public final class ConversionExecutors {
+
+    private static final Executor DEFAULT_ASYNC_EXECUTOR = createDefaultAsyncExecutor();
+
+    private ConversionExecutors() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the shared default executor for asynchronous conversions.
+     *
+     * @return a virtual-thread-per-task executor if available, {@link ForkJoinPool#commonPool()} otherwise
+     */
+    public static Executor defaultAsyncExecutor() {
+        return DEFAULT_ASYNC_EXECUTOR;
+    }
+
+    private static Executor createDefaultAsyncExecutor() {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) factory.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package fi.fmi.avi.converter;
 
 import fi.fmi.avi.model.MessageType;
 import fi.fmi.avi.model.bulletin.BulletinHeading;
+import fi.fmi.avi.model.immutable.ValueInterner;
 import fi.fmi.avi.util.BulletinHeadingIndicatorInterpreter;
 
 import java.util.*;
@@ -320,6 +321,44 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
      */
     public static final Object VALUE_COORDINATE_MINUTES_INCLUDE_ZERO = "INCLUDE_ZERO";
 
+    /**
+     * Controls whether a cached conversion result may be used, see {@link ConversionResultCache}.
+     */
+    public static final Key KEY_CONVERSION_CACHE;
+
+    /**
+     * Use a cached result if available, and cache the result of the conversion (default).
+     */
+    public static final Object VALUE_CONVERSION_CACHE_USE = "CONVERSION_CACHE_USE";
+
+    /**
+     * Always run the conversion, bypassing the cache.
+     */
+    public static final Object VALUE_CONVERSION_CACHE_BYPASS = "CONVERSION_CACHE_BYPASS";
+
+    /**
+     * Controls the formatting of JSON output. The default depends on the conversion specification: the String
+     * specifications default to pretty-printed output, and the byte and stream specifications intended for
+     * machine-to-machine use default to compact output.
+     */
+    public static final Key KEY_JSON_OUTPUT_FORMAT;
+
+    /**
+     * Pretty-print JSON output with line breaks and indentation.
+     */
+    public static final Object VALUE_JSON_OUTPUT_FORMAT_PRETTY = "JSON_OUTPUT_FORMAT_PRETTY";
+
+    /**
+     * Write JSON output without any insignificant whitespace.
+     */
+    public static final Object VALUE_JSON_OUTPUT_FORMAT_COMPACT = "JSON_OUTPUT_FORMAT_COMPACT";
+
+    /**
+     * A {@link ValueInterner} for sharing the equal immutable value objects, such as aerodromes, units of measure and
+     * weather codes, between the parsed messages. Supported by the JSON parsers. Not set by default.
+     */
+    public static final Key KEY_VALUE_INTERNER;
+
     /**
      * A convenience ParsingHints including only the
      * {@link ConversionHints#KEY_MESSAGE_TYPE} with value
@@ -392,6 +431,14 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
 
     public static final ConversionHints EMPTY;
 
+    /**
+     * Number of slots for the keys defined in this class, stored in a dense array indexed by the key number.
+     * Keys defined elsewhere are stored in a separate map.
+     */
+    private static final int INDEXED_KEY_SLOTS = 32;
+    private static final Key[] INDEXED_KEYS = new Key[INDEXED_KEY_SLOTS];
+    private static final Object NULL_VALUE = new Object();
+
     static {
         KEY_MESSAGE_TYPE = new KeyImpl(1, "Aviation message type hint");
         KEY_PARSING_MODE = new KeyImpl(3, "Parsing mode hint", VALUE_PARSING_MODE_STRICT,
@@ -432,7 +479,7 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
                 VALUE_TAF_REFERENCE_POLICY_USE_REFERRED_REPORT_VALID_TIME_FOR_COR_CNL, //
                 VALUE_TAF_REFERENCE_POLICY_USE_REFERRED_REPORT_VALID_TIME_FOR_COR_CNL_AMD);
 
-        KEY_BULLETIN_HEADING_AUGMENTATION_INDICATOR_EXTENSION = new Key(13) {
+        KEY_BULLETIN_HEADING_AUGMENTATION_INDICATOR_EXTENSION = new Key(13, true) {
             @Override
             public boolean isCompatibleValue(final Object value) {
                 return value instanceof BulletinHeadingIndicatorInterpreter;
@@ -458,7 +505,25 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
 
         KEY_INDENT_ON_LINE_WRAP = new KeyImpl(17, "Used to determine the indentation after line wrap.");
 
-        KEY_BULLETING_HEADING = new Key(18) {
+        KEY_CONVERSION_CACHE = new KeyImpl(21, "Controls the use of cached conversion results",
+                VALUE_CONVERSION_CACHE_USE, VALUE_CONVERSION_CACHE_BYPASS);
+
+        KEY_JSON_OUTPUT_FORMAT = new KeyImpl(22, "Controls the formatting of JSON output",
+                VALUE_JSON_OUTPUT_FORMAT_PRETTY, VALUE_JSON_OUTPUT_FORMAT_COMPACT);
+
+        KEY_VALUE_INTERNER = new Key(23, true) {
+            @Override
+            public boolean isCompatibleValue(final Object value) {
+                return value instanceof ValueInterner;
+            }
+
+            @Override
+            public String toString() {
+                return "Value interner";
+            }
+        };
+
+        KEY_BULLETING_HEADING = new Key(18, true) {
             @Override
             public boolean isCompatibleValue(final Object value) {
                 return value instanceof BulletinHeading;
@@ -484,7 +549,9 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
         EMPTY = new ConversionHints(false);
     }
 
-    private HashMap<Object, Object> hintMap = new HashMap<>();
+    private Object[] indexedValues = new Object[INDEXED_KEY_SLOTS];
+    private int indexedSize;
+    private HashMap<Key, Object> otherHints;
     private boolean modifiable;
 
     /**
@@ -521,7 +588,9 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
      * @param modifiable true if hints can be modified, false if not
      */
     public ConversionHints(final Map<? super Key, ?> init, final boolean modifiable) {
-        if (init != null) {
+        if (init instanceof ConversionHints) {
+            copyFrom((ConversionHints) init);
+        } else if (init != null) {
             this.modifiable = true;
             putAll(init);
         }
@@ -550,41 +619,127 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
         return new ConversionHints(hints, true);
     }
 
+    /**
+     * Returns an immutable combination of this and the given hints. The values in <code>overrides</code> take
+     * precedence over the values in this instance. If either one is empty, the other one is returned as such
+     * when it is already immutable.
+     *
+     * @param overrides the hints to lay over this instance, may be null
+     * @return the combined immutable hints
+     */
+    public ConversionHints overlay(final ConversionHints overrides) {
+        if (overrides == null || overrides.isEmpty()) {
+            return immutableCopyOf(this);
+        }
+        if (this.isEmpty()) {
+            return immutableCopyOf(overrides);
+        }
+        final ConversionHints retval = new ConversionHints(this, true);
+        for (int i = 0; i < INDEXED_KEY_SLOTS; i++) {
+            final Object value = overrides.indexedValues[i];
+            if (value != null) {
+                retval.setIndexed(i, value);
+            }
+        }
+        if (overrides.otherHints != null) {
+            retval.otherHints().putAll(overrides.otherHints);
+        }
+        retval.modifiable = false;
+        return retval;
+    }
+
+    private static Object maskNull(final Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private static Object unmaskNull(final Object value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    private void copyFrom(final ConversionHints source) {
+        this.indexedValues = source.indexedValues.clone();
+        this.indexedSize = source.indexedSize;
+        if (source.otherHints != null && !source.otherHints.isEmpty()) {
+            this.otherHints = new HashMap<>(source.otherHints);
+        }
+    }
+
+    private HashMap<Key, Object> otherHints() {
+        if (this.otherHints == null) {
+            this.otherHints = new HashMap<>();
+        }
+        return this.otherHints;
+    }
+
+    private Object setIndexed(final int index, final Object maskedValue) {
+        final Object previous = indexedValues[index];
+        indexedValues[index] = maskedValue;
+        if (previous == null) {
+            indexedSize++;
+        }
+        return unmaskNull(previous);
+    }
+
+    private Object removeIndexed(final int index) {
+        final Object previous = indexedValues[index];
+        if (previous != null) {
+            indexedValues[index] = null;
+            indexedSize--;
+        }
+        return unmaskNull(previous);
+    }
+
     @Override
     public int size() {
-        return this.hintMap.size();
+        return this.indexedSize + (otherHints == null ? 0 : otherHints.size());
     }
 
     @Override
     public boolean isEmpty() {
-        return this.hintMap.isEmpty();
+        return size() == 0;
     }
 
     @Override
     public boolean containsKey(final Object key) {
-        if (key == null) {
-            throw new NullPointerException();
+        if (key instanceof Key) {
+            final Key hintKey = (Key) key;
+            if (hintKey.indexed) {
+                return indexedValues[hintKey.key] != null;
+            }
+            return otherHints != null && otherHints.containsKey(hintKey);
         }
-        return hintMap.containsKey(key);
+        return false;
     }
 
     @Override
     public boolean containsValue(final Object value) {
-        return hintMap.containsValue(value);
+        final Object masked = maskNull(value);
+        for (final Object indexedValue : indexedValues) {
+            if (indexedValue != null && indexedValue.equals(masked)) {
+                return true;
+            }
+        }
+        return otherHints != null && otherHints.containsValue(value);
     }
 
     @Override
     public Object get(final Object key) {
-        return this.hintMap.get(key);
+        return key instanceof Key ? get((Key) key) : null;
     }
 
     public Object get(final Key key) {
-        return this.hintMap.get(key);
+        if (key == null) {
+            return null;
+        }
+        if (key.indexed) {
+            return unmaskNull(indexedValues[key.key]);
+        }
+        return otherHints == null ? null : otherHints.get(key);
     }
 
     @SuppressWarnings("unchecked")
     public <T> T get(final Key key, final Class<T> clz) {
-        final Object o = this.hintMap.get(key);
+        final Object o = get(key);
         if (o != null) {
             if (clz.isAssignableFrom(o.getClass())) {
                 return (T) o;
@@ -598,7 +753,7 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
 
     @SuppressWarnings("unchecked")
     public <T> T tryGet(final Key key, final Class<T> clz) {
-        final Object value = this.hintMap.get(key);
+        final Object value = get(key);
         if (value != null && clz.isAssignableFrom(value.getClass())) {
             return (T) value;
         }
@@ -626,13 +781,27 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
         if (!key.isCompatibleValue(value)) {
             throw new IllegalArgumentException();
         }
-        return hintMap.put(key, value);
+        return putUnchecked(key, value);
+    }
+
+    private Object putUnchecked(final Key key, final Object value) {
+        if (key.indexed) {
+            return setIndexed(key.key, maskNull(value));
+        }
+        return otherHints().put(key, value);
     }
 
     @Override
     public Object remove(final Object key) {
         checkModifiable();
-        return hintMap.remove(key);
+        if (key instanceof Key) {
+            final Key hintKey = (Key) key;
+            if (hintKey.indexed) {
+                return removeIndexed(hintKey.key);
+            }
+            return otherHints == null ? null : otherHints.remove(hintKey);
+        }
+        return null;
     }
 
     @Override
@@ -644,45 +813,158 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
                 throw new IllegalArgumentException();
             }
         }
-        hintMap.putAll(m);
+        for (final Entry<?, ?> entry : m.entrySet()) {
+            putUnchecked((Key) entry.getKey(), entry.getValue());
+        }
     }
 
     @Override
     public void clear() {
         checkModifiable();
-        this.hintMap.clear();
+        Arrays.fill(this.indexedValues, null);
+        this.indexedSize = 0;
+        if (this.otherHints != null) {
+            this.otherHints.clear();
+        }
     }
 
     @Override
     public Set<Object> keySet() {
-        return this.hintMap.keySet();
+        return new AbstractSet<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Entry<Object, Object>> entries = new EntryIterator();
+                return new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return entries.next().getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ConversionHints.this.size();
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return o != null && ConversionHints.this.containsKey(o);
+            }
+        };
     }
 
     @Override
     public Collection<Object> values() {
-        return this.hintMap.values();
+        return new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Entry<Object, Object>> entries = new EntryIterator();
+                return new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return entries.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ConversionHints.this.size();
+            }
+        };
     }
 
     @Override
     public Set<Entry<Object, Object>> entrySet() {
-        return Collections.unmodifiableSet(hintMap.entrySet());
+        return new AbstractSet<Entry<Object, Object>>() {
+            @Override
+            public Iterator<Entry<Object, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return ConversionHints.this.size();
+            }
+        };
     }
 
     @Override
     public boolean equals(final Object o) {
-        return this.hintMap.equals(o);
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Map)) {
+            return false;
+        }
+        final Map<?, ?> other = (Map<?, ?>) o;
+        if (other.size() != size()) {
+            return false;
+        }
+        if (o instanceof ConversionHints) {
+            final ConversionHints otherHints = (ConversionHints) o;
+            return Arrays.equals(this.indexedValues, otherHints.indexedValues) //
+                    && Objects.equals(nullIfEmpty(this.otherHints), nullIfEmpty(otherHints.otherHints));
+        }
+        for (final Entry<Object, Object> entry : entrySet()) {
+            final Object value = entry.getValue();
+            if (value == null) {
+                if (other.get(entry.getKey()) != null || !other.containsKey(entry.getKey())) {
+                    return false;
+                }
+            } else if (!value.equals(other.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<Key, Object> nullIfEmpty(final Map<Key, Object> map) {
+        return map == null || map.isEmpty() ? null : map;
     }
 
     @Override
     public int hashCode() {
-        return this.hintMap.hashCode();
+        int hash = 0;
+        for (int i = 0; i < INDEXED_KEY_SLOTS; i++) {
+            final Object value = indexedValues[i];
+            if (value != null) {
+                hash += INDEXED_KEYS[i].hashCode() ^ Objects.hashCode(unmaskNull(value));
+            }
+        }
+        if (otherHints != null) {
+            hash += otherHints.hashCode();
+        }
+        return hash;
     }
 
     @Override
     public Object clone() {
         try {
             final ConversionHints copy = (ConversionHints) super.clone();
-            copy.hintMap = new HashMap<>(hintMap);
+            copy.indexedValues = this.indexedValues.clone();
+            copy.otherHints = this.otherHints == null ? null : new HashMap<>(this.otherHints);
             copy.modifiable = this.modifiable;
             return copy;
         } catch (final CloneNotSupportedException e) {
@@ -691,7 +973,16 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
     }
 
     public String toString() {
-        return this.hintMap.toString();
+        final StringBuilder sb = new StringBuilder("{");
+        final Iterator<Entry<Object, Object>> entries = new EntryIterator();
+        while (entries.hasNext()) {
+            final Entry<Object, Object> entry = entries.next();
+            sb.append(entry.getKey()).append('=').append(entry.getValue());
+            if (entries.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        return sb.append('}').toString();
     }
 
     private void checkModifiable() throws UnsupportedOperationException {
@@ -700,6 +991,66 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
         }
     }
 
+    /**
+     * Iterates first the built-in keys in the order of their indices, then the other keys.
+     */
+    private final class EntryIterator implements Iterator<Entry<Object, Object>> {
+        private int nextIndex = -1;
+        private int currentIndex = -1;
+        private Iterator<Entry<Key, Object>> others;
+        private Key currentOther;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            do {
+                nextIndex++;
+            } while (nextIndex < INDEXED_KEY_SLOTS && indexedValues[nextIndex] == null);
+        }
+
+        private Iterator<Entry<Key, Object>> others() {
+            if (others == null) {
+                others = otherHints == null ? Collections.<Entry<Key, Object>> emptyIterator() : otherHints.entrySet().iterator();
+            }
+            return others;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < INDEXED_KEY_SLOTS || others().hasNext();
+        }
+
+        @Override
+        public Entry<Object, Object> next() {
+            if (nextIndex < INDEXED_KEY_SLOTS) {
+                currentIndex = nextIndex;
+                currentOther = null;
+                advance();
+                return new AbstractMap.SimpleImmutableEntry<>(INDEXED_KEYS[currentIndex], unmaskNull(indexedValues[currentIndex]));
+            }
+            final Entry<Key, Object> entry = others().next();
+            currentIndex = -1;
+            currentOther = entry.getKey();
+            return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void remove() {
+            checkModifiable();
+            if (currentIndex >= 0) {
+                removeIndexed(currentIndex);
+                currentIndex = -1;
+            } else if (currentOther != null) {
+                others.remove();
+                currentOther = null;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
     /**
      * Key for a specific hint. The {@link ConversionHints#put} methods only accept
      * key-value pairs
@@ -708,9 +1059,24 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
      */
     public abstract static class Key {
         private final int key;
+        private final boolean indexed;
 
         protected Key(final int privateKey) {
             this.key = privateKey;
+            this.indexed = false;
+        }
+
+        /**
+         * Constructor for the keys defined in {@link ConversionHints}, stored in a dense array indexed by
+         * <code>privateKey</code>.
+         */
+        private Key(final int privateKey, final boolean indexed) {
+            if (privateKey < 0 || privateKey >= INDEXED_KEY_SLOTS || INDEXED_KEYS[privateKey] != null) {
+                throw new IllegalStateException("Invalid or duplicate built-in key index " + privateKey);
+            }
+            this.key = privateKey;
+            this.indexed = indexed;
+            INDEXED_KEYS[privateKey] = this;
         }
 
         /**
@@ -749,7 +1115,7 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
         final Object[] fixedOptions;
 
         KeyImpl(final int privateKey, final String description, final Object... option) {
-            super(privateKey);
+            super(privateKey, true);
             this.description = description;
             this.fixedOptions = option;
         }
@@ -34,6 +34,7 @@ public class ConversionIssue {
     private final String message;
     private final Severity severity;
     private final Throwable ex;
+    private final int occurrences;
 
     /**
      * Creates an issue with severity and a message of {@link Type#SYNTAX}.
@@ -82,10 +83,15 @@ public class ConversionIssue {
      *         the reason for the issue
      */
     public ConversionIssue(final Severity severity, final Type type, final String message, final Throwable cause) {
+        this(severity, type, message, cause, 1);
+    }
+
+    private ConversionIssue(final Severity severity, final Type type, final String message, final Throwable cause, final int occurrences) {
         this.type = type;
         this.severity = severity;
         this.message = message;
         this.ex = cause;
+        this.occurrences = occurrences;
     }
 
     /**
@@ -98,10 +104,7 @@ public class ConversionIssue {
      * @param cause the reason for the issue
      */
     public ConversionIssue(final Type type, final String message, final Throwable cause) {
-        this.type = type;
-        this.severity = Severity.ERROR;
-        this.message = message;
-        this.ex = cause;
+        this(Severity.ERROR, type, message, cause, 1);
     }
 
     /**
@@ -141,12 +144,29 @@ public class ConversionIssue {
         return ex;
     }
 
+    /**
+     * Number of identical issues this issue represents. Always 1, unless the issue has been aggregated by
+     * an {@link IssueList} with a bounded capacity.
+     *
+     * @return the number of occurrences
+     */
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    ConversionIssue withOccurrences(final int count) {
+        return new ConversionIssue(severity, type, message, ex, count);
+    }
+
     /**
      * Overridden to return a readable data.
      *
      * @return type and message concatenated
      */
     public String toString() {
+        if (this.occurrences > 1) {
+            return this.type + ":" + this.message + " (" + this.occurrences + " times)";
+        }
         return this.type + ":" + this.message;
     }
 
@@ -0,0 +1,60 @@
+package fi.fmi.avi.converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the metrics of finished conversions.
+ *
+ * A listener can be registered to an {@link AviMessageConverter} using
+ * {@link AviMessageConverter#setMetricsListener(ConversionMetricsListener)}, and to a conversion chain using
+ * {@link ConversionChainBuilder#withMetricsListener(ConversionMetricsListener)}. When no listener is registered,
+ * the conversions are not timed at all.
+ *
+ * The listener is called on the thread running the conversion, so the implementations must be thread-safe
+ * and should return quickly. Conversions ending in an exception are not reported.
+ *
+ * @see InMemoryConversionMetrics
+ */
+@FunctionalInterface
+public interface ConversionMetricsListener {
+
+    /**
+     * Returns the size of a message as reported to the listeners: the number of characters for
+     * {@link CharSequence}s and char arrays, the number of bytes for byte arrays and {@link ByteBuffer}s,
+     * and -1 for other message types and null.
+     *
+     * @param message
+     *         the message to measure
+     *
+     * @return size of the message, or -1 if not known
+     */
+    static long sizeOf(final Object message) {
+        if (message instanceof CharSequence) {
+            return ((CharSequence) message).length();
+        } else if (message instanceof byte[]) {
+            return ((byte[]) message).length;
+        } else if (message instanceof char[]) {
+            return ((char[]) message).length;
+        } else if (message instanceof ByteBuffer) {
+            return ((ByteBuffer) message).remaining();
+        }
+        return -1;
+    }
+
+    /**
+     * Called after each conversion.
+     *
+     * @param spec
+     *         the specification of the conversion
+     * @param durationNanos
+     *         duration of the conversion in nanoseconds
+     * @param inputSize
+     *         size of the input message as returned by {@link #sizeOf(Object)}
+     * @param outputSize
+     *         size of the converted message as returned by {@link #sizeOf(Object)}
+     * @param result
+     *         the result of the conversion, not to be modified by the listener
+     */
+    void conversionCompleted(ConversionSpecification<?, ?> spec, long durationNanos, long inputSize, long outputSize, ConversionResult<?> result);
+
+}
@@ -24,16 +24,33 @@ public class ConversionResult<T> {
         issues = new IssueList();
     }
 
+    /**
+     * Constructs a result storing at most <code>maxStoredIssues</code> conversion issues. Repeated
+     * identical issues are aggregated, and the issues exceeding the limit are dropped but still
+     * affect the status of the result.
+     *
+     * @param maxStoredIssues
+     *         the maximum number of issues to store
+     *
+     * @see IssueList#bounded(int)
+     */
+    public ConversionResult(final int maxStoredIssues) {
+        issues = IssueList.bounded(maxStoredIssues);
+    }
+
     /**
      * Constructs a result from the given result. Does a shallow copy
-     * of the issue list, the status and the result.
+     * of the issue list, the status and the result. The copy keeps the issue
+     * limit and the issue counts of a result with a bounded number of stored issues.
      *
      * @param source
      *         the result to copy
+     *
+     * @see IssueList#copyOf(IssueList)
      */
     public ConversionResult(final ConversionResult<? extends T> source) {
         this.convertedMessage = source.getConvertedMessage().orElse(null);
-        this.issues = new IssueList(source.getConversionIssues());
+        this.issues = IssueList.copyOf(source.issues);
         this.explicitStatus = source.getStatus();
     }
 
@@ -56,20 +73,12 @@ public class ConversionResult<T> {
         } else {
             if (convertedMessage == null) {
                 return Status.FAIL;
+            } else if (issues.hasErrors()) {
+                return Status.WITH_ERRORS;
+            } else if (issues.hasWarnings()) {
+                return Status.WITH_WARNINGS;
             } else {
-                boolean warningsFound = false;
-                for (final ConversionIssue issue : this.issues) {
-                    if (ConversionIssue.Severity.ERROR == issue.getSeverity()) {
-                        return Status.WITH_ERRORS;
-                    } else if (ConversionIssue.Severity.WARNING == issue.getSeverity()) {
-                        warningsFound = true;
-                    }
-                }
-                if (warningsFound) {
-                    return Status.WITH_WARNINGS;
-                } else {
-                    return Status.SUCCESS;
-                }
+                return Status.SUCCESS;
             }
         }
     }
@@ -112,6 +121,19 @@ public class ConversionResult<T> {
         return Collections.unmodifiableList(this.issues);
     }
 
+    /**
+     * Returns the number of reported issues of the given type, including the ones aggregated or dropped
+     * by a result with a bounded number of stored issues.
+     *
+     * @param type
+     *         the issue type to count
+     *
+     * @return number of issues
+     */
+    public int getIssueCount(final ConversionIssue.Type type) {
+        return this.issues.getIssueCount(type);
+    }
+
     /**
      * Adds a single issue.
      *
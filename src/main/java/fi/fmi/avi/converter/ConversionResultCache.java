@@ -0,0 +1,273 @@
+package fi.fmi.avi.converter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size and time bounded cache of conversion results, used for skipping repeated conversions of identical input,
+ * such as GTS retransmissions and duplicates received over several circuits.
+ *
+ * The converters are wrapped with {@link #decorate(ConversionSpecification, AviMessageSpecificConverter)}, and
+ * a single cache instance may be shared by converters of several specifications. The results are cached by
+ * the input message content, the {@link ConversionSpecification} and an immutable copy of the
+ * {@link ConversionHints}. When the maximum size is reached, the least recently used result is evicted.
+ * Results older than the given time-to-live are never returned.
+ *
+ * Each call returns a new {@link ConversionResult} instance copied from the cached one, so modifying the
+ * returned result does not affect the cache. The converted message itself is shared between the copies,
+ * so the cache should only be used for conversions producing immutable output, such as Strings or the
+ * immutable message model objects. Caching can be skipped for a single conversion by setting
+ * {@link ConversionHints#KEY_CONVERSION_CACHE} to {@link ConversionHints#VALUE_CONVERSION_CACHE_BYPASS}.
+ *
+ * All the methods are safe to call from multiple threads concurrently.
+ */
+public final class ConversionResultCache {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final Map<CacheKey, CachedResult> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize
+     *         maximum number of results kept in the cache
+     * @param timeToLive
+     *         maximum age of a cached result
+     */
+    public ConversionResultCache(final int maximumSize, final Duration timeToLive) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maximumSize);
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive, was " + timeToLive);
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<CacheKey, CachedResult>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey, CachedResult> eldest) {
+                if (size() > ConversionResultCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private static boolean isCacheBypassed(final ConversionHints hints) {
+        return hints != null && hints.get(ConversionHints.KEY_CONVERSION_CACHE) == ConversionHints.VALUE_CONVERSION_CACHE_BYPASS;
+    }
+
+    /**
+     * Wraps the given converter to use this cache.
+     *
+     * @param spec
+     *         the specification the converter implements
+     * @param converter
+     *         the converter to wrap
+     * @param <S>
+     *         the input message type
+     * @param <T>
+     *         the output message type
+     *
+     * @return a converter returning cached results when available
+     */
+    public <S, T> AviMessageSpecificConverter<S, T> decorate(final ConversionSpecification<S, T> spec, final AviMessageSpecificConverter<S, T> converter) {
+        Objects.requireNonNull(spec, "spec");
+        Objects.requireNonNull(converter, "converter");
+        return (input, hints) -> convertMessage(spec, converter, input, hints);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S, T> ConversionResult<T> convertMessage(final ConversionSpecification<S, T> spec, final AviMessageSpecificConverter<S, T> converter,
+            final S input, final ConversionHints hints) {
+        if (input == null || isCacheBypassed(hints)) {
+            return converter.convertMessage(input, hints);
+        }
+        final ConversionHints immutableHints = hints == null ? null : ConversionHints.immutableCopyOf(hints);
+        final CacheKey key = new CacheKey(spec, immutableHints, input);
+        final long now = System.nanoTime();
+        CachedResult cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && now - cached.created > timeToLiveNanos) {
+                entries.remove(key);
+                evictions.increment();
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hits.increment();
+            return new ConversionResult<>((ConversionResult<T>) cached.result);
+        }
+        misses.increment();
+        final ConversionResult<T> result = converter.convertMessage(input, immutableHints);
+        if (result != null) {
+            final CachedResult toCache = new CachedResult(new ConversionResult<>(result), now);
+            synchronized (entries) {
+                entries.put(key.detached(), toCache);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of results currently cached, including the expired ones not yet removed.
+     *
+     * @return cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return cache statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private static final class CachedResult {
+        private final ConversionResult<?> result;
+        private final long created;
+
+        CachedResult(final ConversionResult<?> result, final long created) {
+            this.result = result;
+            this.created = created;
+        }
+    }
+
+    private static final class CacheKey {
+        private final ConversionSpecification<?, ?> spec;
+        private final ConversionHints hints;
+        private final Object input;
+        private final int hashCode;
+
+        CacheKey(final ConversionSpecification<?, ?> spec, final ConversionHints hints, final Object input) {
+            this.spec = spec;
+            this.hints = hints;
+            this.input = input;
+            this.hashCode = 31 * (31 * spec.hashCode() + Objects.hashCode(hints)) + contentHashCode(input);
+        }
+
+        /**
+         * Returns a key with its own copy of array input, safe from later modifications by the caller.
+         */
+        CacheKey detached() {
+            if (input instanceof byte[]) {
+                return new CacheKey(spec, hints, ((byte[]) input).clone());
+            } else if (input instanceof char[]) {
+                return new CacheKey(spec, hints, ((char[]) input).clone());
+            }
+            return this;
+        }
+
+        private static int contentHashCode(final Object input) {
+            if (input instanceof byte[]) {
+                return Arrays.hashCode((byte[]) input);
+            } else if (input instanceof char[]) {
+                return Arrays.hashCode((char[]) input);
+            }
+            return input.hashCode();
+        }
+
+        private static boolean contentEquals(final Object a, final Object b) {
+            if (a instanceof byte[] && b instanceof byte[]) {
+                return Arrays.equals((byte[]) a, (byte[]) b);
+            } else if (a instanceof char[] && b instanceof char[]) {
+                return Arrays.equals((char[]) a, (char[]) b);
+            }
+            return a.equals(b);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return hashCode == other.hashCode && spec.equals(other.spec) && Objects.equals(hints, other.hints) && contentEquals(input, other.input);
+        }
+    }
+
+    /**
+     * Cache hit, miss and eviction counts.
+     */
+    public static final class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        Statistics(final long hitCount, final long missCount, final long evictionCount, final int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return number of results removed because of the size limit or expiration
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return ratio of hits to all the cached lookups, or 0 if there have been none
+         */
+        public double getHitRate() {
+            final long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "hits " + hitCount + ", misses " + missCount + ", evictions " + evictionCount + ", size " + size;
+        }
+    }
+}
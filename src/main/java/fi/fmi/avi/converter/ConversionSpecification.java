@@ -16,6 +16,7 @@ public class ConversionSpecification<S, T> {
     private final Class<T> outputClass;
     private final Object inputSpecifier;
     private final Object outputSpecifier;
+    private final int hashCode;
 
     /**
      * Constructor for a conversion specified fully by the input and output Classes.
@@ -46,6 +47,7 @@ public class ConversionSpecification<S, T> {
         this.outputClass = output;
         this.inputSpecifier = inputSpecifier;
         this.outputSpecifier = outputSpecifier;
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -86,6 +88,10 @@ public class ConversionSpecification<S, T> {
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int computeHashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((inputClass == null) ? 0 : inputClass.hashCode());
@@ -107,6 +113,9 @@ public class ConversionSpecification<S, T> {
             return false;
         }
         final ConversionSpecification<?, ?> other = (ConversionSpecification<?, ?>) obj;
+        if (hashCode != other.hashCode) {
+            return false;
+        }
         if (inputClass == null) {
             if (other.inputClass != null) {
                 return false;
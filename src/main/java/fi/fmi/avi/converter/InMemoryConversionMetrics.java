@@ -0,0 +1,231 @@
+package fi.fmi.avi.converter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ConversionMetricsListener} collecting the conversion metrics in memory, separately for each
+ * {@link ConversionSpecification}.
+ *
+ * The latencies are recorded in log-linear histograms with a relative precision of about 3 %, so that
+ * percentiles such as the p99 latency can be read from the {@link Snapshot}s returned by {@link #getSnapshots()}.
+ * The metrics can be exported to a monitoring system by polling the snapshots periodically.
+ *
+ * All the methods are safe to call from multiple threads concurrently.
+ */
+public class InMemoryConversionMetrics implements ConversionMetricsListener {
+
+    private static final ConversionResult.Status[] STATUSES = ConversionResult.Status.values();
+    private static final ConversionIssue.Type[] ISSUE_TYPES = ConversionIssue.Type.values();
+
+    private final ConcurrentMap<ConversionSpecification<?, ?>, SpecificationMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void conversionCompleted(final ConversionSpecification<?, ?> spec, final long durationNanos, final long inputSize, final long outputSize,
+            final ConversionResult<?> result) {
+        metrics.computeIfAbsent(spec, s -> new SpecificationMetrics()).record(durationNanos, inputSize, outputSize, result);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the given specification.
+     *
+     * @param spec
+     *         the specification
+     *
+     * @return the metrics, with all the counts zero if no conversions have been reported
+     */
+    public Snapshot getSnapshot(final ConversionSpecification<?, ?> spec) {
+        final SpecificationMetrics specMetrics = metrics.get(spec);
+        return specMetrics == null ? new SpecificationMetrics().snapshot(spec) : specMetrics.snapshot(spec);
+    }
+
+    /**
+     * Returns snapshots of the metrics of all the reported specifications.
+     *
+     * @return metrics by specification
+     */
+    public Map<ConversionSpecification<?, ?>, Snapshot> getSnapshots() {
+        final Map<ConversionSpecification<?, ?>, Snapshot> retval = new HashMap<>();
+        metrics.forEach((spec, specMetrics) -> retval.put(spec, specMetrics.snapshot(spec)));
+        return Collections.unmodifiableMap(retval);
+    }
+
+    /**
+     * Discards all the collected metrics.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    private static final class SpecificationMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder inputSize = new LongAdder();
+        private final LongAdder outputSize = new LongAdder();
+        private final LongAdder[] statusCounts = newAdders(STATUSES.length);
+        private final LongAdder[] issueCounts = newAdders(ISSUE_TYPES.length);
+
+        private static LongAdder[] newAdders(final int count) {
+            final LongAdder[] retval = new LongAdder[count];
+            for (int i = 0; i < count; i++) {
+                retval[i] = new LongAdder();
+            }
+            return retval;
+        }
+
+        void record(final long durationNanos, final long inputSize, final long outputSize, final ConversionResult<?> result) {
+            latency.record(durationNanos);
+            if (inputSize > 0) {
+                this.inputSize.add(inputSize);
+            }
+            if (outputSize > 0) {
+                this.outputSize.add(outputSize);
+            }
+            statusCounts[result.getStatus().ordinal()].increment();
+            if (!result.getConversionIssues().isEmpty()) {
+                for (final ConversionIssue.Type type : ISSUE_TYPES) {
+                    final int count = result.getIssueCount(type);
+                    if (count > 0) {
+                        issueCounts[type.ordinal()].add(count);
+                    }
+                }
+            }
+        }
+
+        Snapshot snapshot(final ConversionSpecification<?, ?> spec) {
+            final long[] statuses = new long[STATUSES.length];
+            for (int i = 0; i < statuses.length; i++) {
+                statuses[i] = statusCounts[i].sum();
+            }
+            final long[] issues = new long[ISSUE_TYPES.length];
+            for (int i = 0; i < issues.length; i++) {
+                issues[i] = issueCounts[i].sum();
+            }
+            final long[] percentiles = new long[Snapshot.PERCENTILES.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                percentiles[i] = latency.getValueAtPercentile(Snapshot.PERCENTILES[i]);
+            }
+            return new Snapshot(spec, latency.getCount(), latency.getSum(), latency.getMax(), percentiles, inputSize.sum(), outputSize.sum(), statuses,
+                    issues);
+        }
+    }
+
+    /**
+     * Conversion metrics of a single {@link ConversionSpecification} at a point in time.
+     */
+    public static final class Snapshot {
+        private static final double[] PERCENTILES = { 50, 90, 95, 99, 99.9 };
+
+        private final ConversionSpecification<?, ?> specification;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] percentileNanos;
+        private final long totalInputSize;
+        private final long totalOutputSize;
+        private final long[] statusCounts;
+        private final long[] issueCounts;
+
+        Snapshot(final ConversionSpecification<?, ?> specification, final long count, final long totalNanos, final long maxNanos,
+                final long[] percentileNanos, final long totalInputSize, final long totalOutputSize, final long[] statusCounts, final long[] issueCounts) {
+            this.specification = specification;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.percentileNanos = percentileNanos;
+            this.totalInputSize = totalInputSize;
+            this.totalOutputSize = totalOutputSize;
+            this.statusCounts = statusCounts;
+            this.issueCounts = issueCounts;
+        }
+
+        public ConversionSpecification<?, ?> getSpecification() {
+            return specification;
+        }
+
+        /**
+         * @return number of reported conversions
+         */
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public double getMeanNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        /**
+         * @return median latency in nanoseconds
+         */
+        public long getP50Nanos() {
+            return percentileNanos[0];
+        }
+
+        public long getP90Nanos() {
+            return percentileNanos[1];
+        }
+
+        public long getP95Nanos() {
+            return percentileNanos[2];
+        }
+
+        public long getP99Nanos() {
+            return percentileNanos[3];
+        }
+
+        public long getP999Nanos() {
+            return percentileNanos[4];
+        }
+
+        /**
+         * @return sum of the known input sizes, see {@link ConversionMetricsListener#sizeOf(Object)}
+         */
+        public long getTotalInputSize() {
+            return totalInputSize;
+        }
+
+        /**
+         * @return sum of the known output sizes, see {@link ConversionMetricsListener#sizeOf(Object)}
+         */
+        public long getTotalOutputSize() {
+            return totalOutputSize;
+        }
+
+        /**
+         * @param status
+         *         the status to query
+         *
+         * @return number of conversions finished with the status
+         */
+        public long getStatusCount(final ConversionResult.Status status) {
+            return statusCounts[status.ordinal()];
+        }
+
+        /**
+         * @param type
+         *         the issue type to query
+         *
+         * @return number of issues of the type reported in all the conversions
+         */
+        public long getIssueCount(final ConversionIssue.Type type) {
+            return issueCounts[type.ordinal()];
+        }
+
+        @Override
+        public String toString() {
+            return specification + ": " + count + " conversions, mean " + Math.round(getMeanNanos()) + " ns, p99 " + getP99Nanos() + " ns, max " + maxNanos
+                    + " ns";
+        }
+    }
+}
@@ -1,19 +1,49 @@
 package fi.fmi.avi.converter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * A convenience class for handling a list of {@link ConversionIssue}s.
+ *
+ * The list keeps count of the issues per {@link ConversionIssue.Severity} and {@link ConversionIssue.Type}
+ * as they are added, so that the count queries such as {@link #hasErrors()} are constant-time operations.
+ * Removing issues causes the counts to be recalculated on the next query. Note that replacing elements through
+ * a {@link #subList(int, int)} view is not tracked.
+ *
+ * A list created with {@link #bounded(int)} stores at most the given number of issues. Repeated identical issues,
+ * i.e. issues with the same severity, type and message, are aggregated into the first one of them with an
+ * {@link ConversionIssue#getOccurrences() occurrence count}. Distinct issues exceeding the limit are dropped, but
+ * still included in the counts.
  */
 public class IssueList extends ArrayList<ConversionIssue> {
 
     private static final long serialVersionUID = 3557570152367284981L;
+    private static final int UNBOUNDED = -1;
+    private static final int SEVERITIES = ConversionIssue.Severity.values().length;
+    private static final int TYPES = ConversionIssue.Type.values().length;
+
+    private final int maxStoredIssues;
+    private final int[] droppedSeverityCounts = new int[SEVERITIES];
+    private final int[] droppedTypeCounts = new int[TYPES];
+    private int droppedIssues;
+
+    private transient int[] severityCounts;
+    private transient int[] typeCounts;
+    private transient int countedModCount;
+    private transient Map<IssueKey, Integer> aggregationIndex;
 
     /**
      * Constructs an empty list with an initial capacity of ten.
      */
     public IssueList() {
+        this.maxStoredIssues = UNBOUNDED;
     }
 
     /**
@@ -29,6 +59,57 @@ public class IssueList extends ArrayList<ConversionIssue> {
      */
     public IssueList(final Collection<? extends ConversionIssue> c) {
         super(c);
+        this.maxStoredIssues = UNBOUNDED;
+    }
+
+    private IssueList(final IssueList source) {
+        super(source);
+        this.maxStoredIssues = source.maxStoredIssues;
+        System.arraycopy(source.droppedSeverityCounts, 0, this.droppedSeverityCounts, 0, SEVERITIES);
+        System.arraycopy(source.droppedTypeCounts, 0, this.droppedTypeCounts, 0, TYPES);
+        this.droppedIssues = source.droppedIssues;
+    }
+
+    private IssueList(final int maxStoredIssues) {
+        if (maxStoredIssues < 1) {
+            throw new IllegalArgumentException("Maximum number of stored issues must be positive, was " + maxStoredIssues);
+        }
+        this.maxStoredIssues = maxStoredIssues;
+    }
+
+    /**
+     * Constructs an empty list storing at most <code>maxStoredIssues</code> issues, and aggregating
+     * repeated identical issues.
+     *
+     * @param maxStoredIssues
+     *         the maximum number of issues to store
+     *
+     * @return new bounded list
+     */
+    public static IssueList bounded(final int maxStoredIssues) {
+        return new IssueList(maxStoredIssues);
+    }
+
+    /**
+     * Returns a copy of the given list. Unlike {@link #IssueList(Collection)}, the copy keeps the maximum number of stored
+     * issues of a bounded list, and the counts of the issues it has dropped.
+     *
+     * @param source
+     *         the list to copy
+     *
+     * @return new list with the issues and counts of <code>source</code>
+     */
+    public static IssueList copyOf(final IssueList source) {
+        return new IssueList(source);
+    }
+
+    /**
+     * Returns true if the number of stored issues in this list is limited.
+     *
+     * @return true if created using {@link #bounded(int)}
+     */
+    public boolean isBounded() {
+        return maxStoredIssues != UNBOUNDED;
     }
 
     /**
@@ -67,4 +148,246 @@ public class IssueList extends ArrayList<ConversionIssue> {
         this.add(new ConversionIssue(severity, type, message, cause));
     }
 
+    @Override
+    public boolean add(final ConversionIssue issue) {
+        ensureCounts();
+        if (isBounded() && issue != null) {
+            final IssueKey key = new IssueKey(issue);
+            final Integer index = aggregationIndex.get(key);
+            if (index != null) {
+                final ConversionIssue aggregated = get(index);
+                super.set(index, aggregated.withOccurrences(aggregated.getOccurrences() + issue.getOccurrences()));
+                count(issue, 1);
+                return true;
+            }
+            if (size() >= maxStoredIssues) {
+                drop(issue);
+                return true;
+            }
+            aggregationIndex.put(key, size());
+        }
+        super.add(issue);
+        count(issue, 1);
+        countedModCount = modCount;
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final ConversionIssue issue) {
+        ensureCounts();
+        if (isBounded() && size() >= maxStoredIssues) {
+            drop(issue);
+            return;
+        }
+        super.add(index, issue);
+        count(issue, 1);
+        countedModCount = modCount;
+        aggregationIndex = null;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends ConversionIssue> c) {
+        if (isBounded()) {
+            for (final ConversionIssue issue : c.toArray(new ConversionIssue[0])) {
+                add(issue);
+            }
+            return !c.isEmpty();
+        }
+        ensureCounts();
+        final int from = size();
+        final boolean changed = super.addAll(c);
+        countRange(from, size());
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends ConversionIssue> c) {
+        if (isBounded()) {
+            int i = index;
+            for (final ConversionIssue issue : c.toArray(new ConversionIssue[0])) {
+                add(i++, issue);
+            }
+            return !c.isEmpty();
+        }
+        ensureCounts();
+        final int sizeBefore = size();
+        final boolean changed = super.addAll(index, c);
+        countRange(index, index + size() - sizeBefore);
+        return changed;
+    }
+
+    @Override
+    public ConversionIssue set(final int index, final ConversionIssue issue) {
+        ensureCounts();
+        final ConversionIssue previous = super.set(index, issue);
+        count(previous, -1);
+        count(issue, 1);
+        aggregationIndex = null;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        Arrays.fill(droppedSeverityCounts, 0);
+        Arrays.fill(droppedTypeCounts, 0);
+        droppedIssues = 0;
+    }
+
+    /**
+     * Returns the number of issues with the given severity added to this list, including
+     * the aggregated and dropped ones.
+     *
+     * @param severity
+     *         severity to count
+     *
+     * @return number of issues
+     */
+    public int getIssueCount(final ConversionIssue.Severity severity) {
+        ensureCounts();
+        return severityCounts[severity.ordinal()];
+    }
+
+    /**
+     * Returns the number of issues of the given type added to this list, including
+     * the aggregated and dropped ones.
+     *
+     * @param type
+     *         type to count
+     *
+     * @return number of issues
+     */
+    public int getIssueCount(final ConversionIssue.Type type) {
+        ensureCounts();
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * @return true if any issues of {@link ConversionIssue.Severity#ERROR} have been added
+     */
+    public boolean hasErrors() {
+        return getIssueCount(ConversionIssue.Severity.ERROR) > 0;
+    }
+
+    /**
+     * @return true if any issues of {@link ConversionIssue.Severity#WARNING} have been added
+     */
+    public boolean hasWarnings() {
+        return getIssueCount(ConversionIssue.Severity.WARNING) > 0;
+    }
+
+    /**
+     * Returns the number of distinct issues not stored because the maximum size of a bounded list was reached.
+     *
+     * @return number of dropped issues
+     */
+    public int getDroppedIssueCount() {
+        return droppedIssues;
+    }
+
+    /**
+     * Returns the stored issues with the given severity.
+     *
+     * @param severity
+     *         severity to filter with
+     *
+     * @return matching issues in the order they were added
+     */
+    public List<ConversionIssue> getIssues(final ConversionIssue.Severity severity) {
+        if (getIssueCount(severity) == 0) {
+            return Collections.emptyList();
+        }
+        final List<ConversionIssue> retval = new ArrayList<>();
+        for (final ConversionIssue issue : this) {
+            if (issue != null && issue.getSeverity() == severity) {
+                retval.add(issue);
+            }
+        }
+        return retval;
+    }
+
+    private void drop(final ConversionIssue issue) {
+        if (issue == null) {
+            return;
+        }
+        droppedIssues++;
+        if (issue.getSeverity() != null) {
+            droppedSeverityCounts[issue.getSeverity().ordinal()] += issue.getOccurrences();
+        }
+        if (issue.getType() != null) {
+            droppedTypeCounts[issue.getType().ordinal()] += issue.getOccurrences();
+        }
+        count(issue, 1);
+    }
+
+    private void count(final ConversionIssue issue, final int sign) {
+        if (issue == null) {
+            return;
+        }
+        final int occurrences = sign * issue.getOccurrences();
+        if (issue.getSeverity() != null) {
+            severityCounts[issue.getSeverity().ordinal()] += occurrences;
+        }
+        if (issue.getType() != null) {
+            typeCounts[issue.getType().ordinal()] += occurrences;
+        }
+    }
+
+    private void countRange(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            count(get(i), 1);
+        }
+        countedModCount = modCount;
+    }
+
+    private void ensureCounts() {
+        if (severityCounts == null || countedModCount != modCount) {
+            severityCounts = droppedSeverityCounts.clone();
+            typeCounts = droppedTypeCounts.clone();
+            for (final ConversionIssue issue : this) {
+                count(issue, 1);
+            }
+            countedModCount = modCount;
+            aggregationIndex = null;
+        }
+        if (aggregationIndex == null && isBounded()) {
+            aggregationIndex = new HashMap<>();
+            for (int i = 0; i < size(); i++) {
+                final ConversionIssue issue = get(i);
+                if (issue != null) {
+                    aggregationIndex.putIfAbsent(new IssueKey(issue), i);
+                }
+            }
+        }
+    }
+
+    private static final class IssueKey {
+        private final ConversionIssue.Severity severity;
+        private final ConversionIssue.Type type;
+        private final String message;
+
+        IssueKey(final ConversionIssue issue) {
+            this.severity = issue.getSeverity();
+            this.type = issue.getType();
+            this.message = issue.getMessage();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IssueKey)) {
+                return false;
+            }
+            final IssueKey other = (IssueKey) o;
+            return severity == other.severity && type == other.type && Objects.equals(message, other.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(severity, type, message);
+        }
+    }
+
 }
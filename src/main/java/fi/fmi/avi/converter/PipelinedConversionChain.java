@@ -0,0 +1,333 @@
+package fi.fmi.avi.converter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Pipelined execution mode of a {@link ConversionChain}, created by
+ * {@link ConversionChainBuilder#buildPipelined(ConversionSpecification, int, Executor)}.
+ *
+ * Each step of the chain runs on its own worker, and the messages are handed from one step to the next
+ * through bounded queues. This way step N for one message runs concurrently with step N+1 for the previous
+ * message. A full queue blocks the previous step, so the input is read only as fast as the slowest step
+ * can process it. The results are delivered in input order.
+ *
+ * One invocation of {@link #convertMessages(Iterator, ConversionHints, Consumer)} occupies
+ * one task of the executor for reading the input and one task for each step of the chain for the whole
+ * duration of the call, so the executor must be able to run all of them concurrently.
+ *
+ * @param <S>
+ *         input message type
+ * @param <T>
+ *         output message type
+ */
+public final class PipelinedConversionChain<S, T> {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final Object END_OF_INPUT = new Object();
+
+    private final ConversionChain<S, T> chain;
+    private final int queueCapacity;
+    private final Executor executor;
+    private final StageCounters[] counters;
+    private final Set<Run> activeRuns = ConcurrentHashMap.newKeySet();
+
+    PipelinedConversionChain(final ConversionChain<S, T> chain, final int queueCapacity, final Executor executor) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive, was " + queueCapacity);
+        }
+        this.chain = Objects.requireNonNull(chain, "chain");
+        this.queueCapacity = queueCapacity;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.counters = new StageCounters[chain.getStepCount()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new StageCounters();
+        }
+    }
+
+    /**
+     * Converts all the messages from <code>inputs</code> and passes the results to <code>consumer</code>
+     * in input order. The consumer is called on the calling thread. Returns when all the input messages
+     * have been converted and consumed.
+     *
+     * @param inputs
+     *         the input messages
+     * @param hints
+     *         hints passed to each step
+     * @param consumer
+     *         receiver of the conversion results
+     *
+     * @throws InterruptedException
+     *         if the calling thread is interrupted while waiting for results; the pipeline is stopped
+     */
+    public void convertMessages(final Iterator<? extends S> inputs, final ConversionHints hints, final Consumer<? super ConversionResult<T>> consumer)
+            throws InterruptedException {
+        final Run run = new Run(hints);
+        activeRuns.add(run);
+        try {
+            executor.execute(() -> run.feed(inputs));
+            for (int i = 0; i < counters.length; i++) {
+                final int stage = i;
+                executor.execute(() -> run.process(stage));
+            }
+            run.drain(consumer);
+        } finally {
+            run.cancel();
+            activeRuns.remove(run);
+        }
+        final Throwable failure = run.failure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+
+    /**
+     * Converts all the messages in <code>inputs</code>.
+     *
+     * @param inputs
+     *         the input messages
+     * @param hints
+     *         hints passed to each step
+     *
+     * @return the results, in the iteration order of <code>inputs</code>
+     *
+     * @throws InterruptedException
+     *         if the calling thread is interrupted while waiting for results
+     */
+    public List<ConversionResult<T>> convertMessages(final Collection<? extends S> inputs, final ConversionHints hints) throws InterruptedException {
+        final List<ConversionResult<T>> results = new ArrayList<>(inputs.size());
+        convertMessages(inputs.iterator(), hints, results::add);
+        return results;
+    }
+
+    /**
+     * Returns the underlying chain, for example to access the step timings.
+     *
+     * @return the chain run by this pipeline
+     */
+    public ConversionChain<S, T> getChain() {
+        return chain;
+    }
+
+    /**
+     * Returns a snapshot of the input queue metrics of each stage, in execution order.
+     *
+     * @return stage metrics
+     */
+    public List<StageStatistics> getStageStatistics() {
+        final List<ConversionSpecification<?, ?>> specifications = chain.getStepSpecifications();
+        final List<StageStatistics> retval = new ArrayList<>(counters.length);
+        for (int i = 0; i < counters.length; i++) {
+            int queueDepth = 0;
+            for (final Run run : activeRuns) {
+                queueDepth += run.queues.get(i).size();
+            }
+            final StageCounters stage = counters[i];
+            retval.add(new StageStatistics(specifications.get(i), queueCapacity, queueDepth, stage.peakQueueDepth.get(), stage.processed.sum()));
+        }
+        return Collections.unmodifiableList(retval);
+    }
+
+    private static final class StageCounters {
+        private final AtomicInteger peakQueueDepth = new AtomicInteger();
+        private final LongAdder processed = new LongAdder();
+    }
+
+    private static final class Item<T> {
+        private final ConversionResult<T> result = new ConversionResult<>();
+        private Object message;
+
+        Item(final Object message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * State of a single {@link #convertMessages(Iterator, ConversionHints, Consumer)} invocation.
+     */
+    private final class Run {
+        private final ConversionHints hints;
+        private final List<BlockingQueue<Object>> queues;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean cancelled;
+
+        Run(final ConversionHints hints) {
+            this.hints = hints;
+            this.queues = new ArrayList<>(counters.length + 1);
+            for (int i = 0; i <= counters.length; i++) {
+                queues.add(new ArrayBlockingQueue<>(queueCapacity));
+            }
+        }
+
+        void feed(final Iterator<? extends S> inputs) {
+            try {
+                while (inputs.hasNext()) {
+                    if (!put(0, new Item<T>(inputs.next()))) {
+                        return;
+                    }
+                }
+            } catch (final RuntimeException | Error e) {
+                fail(e);
+                return;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new IllegalStateException("Conversion pipeline input reader interrupted", e));
+                return;
+            }
+            putEndOfInput(0);
+        }
+
+        @SuppressWarnings("unchecked")
+        void process(final int stage) {
+            try {
+                Object element;
+                while ((element = take(stage)) != null && element != END_OF_INPUT) {
+                    final Item<T> item = (Item<T>) element;
+                    if (stage == 0 || item.message != null) {
+                        try {
+                            item.message = chain.applyStep(stage, item.message, hints, item.result);
+                        } catch (final RuntimeException e) {
+                            item.result.addIssue(
+                                    new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Exception in conversion step", e));
+                            item.message = null;
+                        }
+                    }
+                    counters[stage].processed.increment();
+                    if (!put(stage + 1, item)) {
+                        return;
+                    }
+                }
+                if (element == END_OF_INPUT) {
+                    putEndOfInput(stage + 1);
+                }
+            } catch (final Error e) {
+                fail(e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new IllegalStateException("Conversion pipeline worker interrupted", e));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void drain(final Consumer<? super ConversionResult<T>> consumer) throws InterruptedException {
+            Object element;
+            while ((element = take(counters.length)) != null && element != END_OF_INPUT) {
+                final Item<T> item = (Item<T>) element;
+                item.result.setConvertedMessage((T) item.message);
+                consumer.accept(item.result);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        private void fail(final Throwable t) {
+            failure.compareAndSet(null, t);
+            cancel();
+        }
+
+        private void putEndOfInput(final int queue) {
+            try {
+                put(queue, END_OF_INPUT);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new IllegalStateException("Conversion pipeline worker interrupted", e));
+            }
+        }
+
+        private boolean put(final int queue, final Object element) throws InterruptedException {
+            final BlockingQueue<Object> target = queues.get(queue);
+            while (!target.offer(element, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (cancelled) {
+                    return false;
+                }
+            }
+            if (queue < counters.length) {
+                counters[queue].peakQueueDepth.accumulateAndGet(target.size(), Math::max);
+            }
+            return true;
+        }
+
+        private Object take(final int queue) throws InterruptedException {
+            final BlockingQueue<Object> source = queues.get(queue);
+            Object element;
+            while ((element = source.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                if (cancelled) {
+                    return null;
+                }
+            }
+            return element;
+        }
+    }
+
+    /**
+     * Input queue metrics of a single pipeline stage.
+     */
+    public static final class StageStatistics {
+        private final ConversionSpecification<?, ?> specification;
+        private final int queueCapacity;
+        private final int queueDepth;
+        private final int peakQueueDepth;
+        private final long processed;
+
+        StageStatistics(final ConversionSpecification<?, ?> specification, final int queueCapacity, final int queueDepth, final int peakQueueDepth,
+                final long processed) {
+            this.specification = specification;
+            this.queueCapacity = queueCapacity;
+            this.queueDepth = queueDepth;
+            this.peakQueueDepth = peakQueueDepth;
+            this.processed = processed;
+        }
+
+        public ConversionSpecification<?, ?> getSpecification() {
+            return specification;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * @return number of messages currently waiting for this stage, summed over all the running invocations
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        /**
+         * @return the highest number of messages observed waiting for this stage
+         */
+        public int getPeakQueueDepth() {
+            return peakQueueDepth;
+        }
+
+        /**
+         * @return number of messages handled by this stage
+         */
+        public long getProcessed() {
+            return processed;
+        }
+
+        @Override
+        public String toString() {
+            return specification + ": depth " + queueDepth + "/" + queueCapacity + ", peak " + peakQueueDepth + ", processed " + processed;
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package fi.fmi.avi.converter.json;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.converter.ConversionIssue;
 import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessage;
 import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+import fi.fmi.avi.model.bulletin.MeteorologicalBulletin;
+import fi.fmi.avi.model.immutable.ValueInterner;
 
 /**
  * Common functionality for all JSON parsers.
@@ -17,6 +34,7 @@ public abstract class AbstractJSONParser {
     /**
      * Runs the conversion from JSON to a specific kind of AviationWeatherMessage.
      * Uses Jackson internally to parse the JSON (supports Jackson modules Jdk8 and JavaTime).
+     * The reader for <code>implClz</code> is shared through {@link JSONMapperRegistry}.
      *
      * @param input
      *         JSON as a String
@@ -33,12 +51,209 @@ public abstract class AbstractJSONParser {
      */
     protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final String input, final Class<T> clz,
             final Class<? extends T> implClz, final ConversionHints hints) {
+        return parse(implClz, hints, reader -> reader.readValue(input));
+    }
+
+    /**
+     * Runs the conversion from UTF-8, UTF-16 or UTF-32 encoded JSON bytes to a specific kind of AviationWeatherMessage.
+     * The bytes are parsed directly without decoding them into a String first.
+     *
+     * @param input
+     *         JSON as bytes
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     * @param hints
+     *         conversion hints to guide the process
+     * @param <T>
+     *         type of the parsed message
+     *
+     * @return result of the conversion
+     */
+    protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final byte[] input, final Class<T> clz,
+            final Class<? extends T> implClz, final ConversionHints hints) {
+        return parse(implClz, hints, reader -> reader.readValue(input));
+    }
+
+    /**
+     * Runs the conversion from the remaining bytes of a buffer to a specific kind of AviationWeatherMessage.
+     * Heap buffers are parsed in place, direct buffers are streamed. The position of <code>input</code>
+     * is not changed.
+     *
+     * @param input
+     *         JSON as bytes
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     * @param hints
+     *         conversion hints to guide the process
+     * @param <T>
+     *         type of the parsed message
+     *
+     * @return result of the conversion
+     */
+    protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final ByteBuffer input, final Class<T> clz,
+            final Class<? extends T> implClz, final ConversionHints hints) {
+        if (input != null && input.hasArray()) {
+            return parse(implClz, hints, reader -> reader.readValue(input.array(), input.arrayOffset() + input.position(), input.remaining()));
+        }
+        return parse(implClz, hints, reader -> reader.readValue(new ByteBufferBackedInputStream(input.duplicate())));
+    }
+
+    /**
+     * Runs the conversion from a stream of JSON bytes to a specific kind of AviationWeatherMessage.
+     * The stream is read until the end of the JSON document, but not closed.
+     *
+     * @param input
+     *         JSON as a stream of bytes
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     * @param hints
+     *         conversion hints to guide the process
+     * @param <T>
+     *         type of the parsed message
+     *
+     * @return result of the conversion
+     */
+    protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final InputStream input, final Class<T> clz,
+            final Class<? extends T> implClz, final ConversionHints hints) {
+        return parse(implClz, hints, reader -> reader.readValue(input));
+    }
+
+    /**
+     * Runs the conversion from JSON to a bulletin, deserializing the contained messages in parallel.
+     *
+     * The JSON is tokenized once on the calling thread: the tokens of each element of the <code>messages</code> array are
+     * buffered separately, and the rest of the bulletin is deserialized without the messages. The buffered messages are then
+     * deserialized as tasks on <code>executor</code>, and added to the bulletin using <code>messageAppender</code> in their
+     * original order. If a message cannot be deserialized, it is left out of the bulletin and reported as an error issue,
+     * without failing the other messages. If the executor rejects a task, the message is deserialized on the calling thread.
+     *
+     * @param input
+     *         JSON as a String
+     * @param clz
+     *         class of intended type of the parsed bulletin
+     * @param implClz
+     *         the class containing the Jackson parsing annotations of the bulletin
+     * @param messageImplClz
+     *         the class containing the Jackson parsing annotations of the contained messages
+     * @param messageAppender
+     *         function returning a copy of the bulletin with the given messages appended
+     * @param executor
+     *         executor for deserializing the messages
+     * @param hints
+     *         conversion hints to guide the process
+     * @param <T>
+     *         type of the parsed bulletin
+     * @param <M>
+     *         type of the contained messages
+     *
+     * @return result of the conversion
+     */
+    protected <T extends MeteorologicalBulletin<M>, M extends AviationWeatherMessage> ConversionResult<T> doConvertBulletin(final String input,
+            final Class<T> clz, final Class<? extends T> implClz, final Class<? extends M> messageImplClz, final BiFunction<T, List<M>, T> messageAppender,
+            final Executor executor, final ConversionHints hints) {
+        final ObjectReader bulletinReader = JSONMapperRegistry.withInterner(getReader(implClz), internerOf(hints));
+        final ObjectReader messageReader = JSONMapperRegistry.withInterner(getReader(messageImplClz), internerOf(hints));
+        final List<TokenBuffer> messages = new ArrayList<>();
+        final T bulletin;
+        try (JsonParser parser = bulletinReader.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return doConvertMessage(input, clz, implClz, hints);
+            }
+            final TokenBuffer envelope = new TokenBuffer(parser);
+            envelope.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "messages".equals(field)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        final TokenBuffer message = new TokenBuffer(parser);
+                        message.copyCurrentStructure(parser);
+                        messages.add(message);
+                    }
+                } else {
+                    envelope.writeFieldName(field);
+                    envelope.copyCurrentStructure(parser);
+                }
+            }
+            envelope.writeEndObject();
+            bulletin = bulletinReader.readValue(envelope.asParser());
+        } catch (final IOException | RuntimeException e) {
+            final ConversionResult<T> result = new ConversionResult<>();
+            result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error parsing JSON", e));
+            result.setStatus(ConversionResult.Status.FAIL);
+            return result;
+        }
+
+        final List<CompletableFuture<M>> futures = new ArrayList<>(messages.size());
+        for (final TokenBuffer message : messages) {
+            CompletableFuture<M> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> readMessage(messageReader, message), executor);
+            } catch (final RejectedExecutionException e) {
+                future = new CompletableFuture<>();
+                try {
+                    future.complete(readMessage(messageReader, message));
+                } catch (final RuntimeException re) {
+                    future.completeExceptionally(re);
+                }
+            }
+            futures.add(future);
+        }
         final ConversionResult<T> result = new ConversionResult<>();
-        final ObjectMapper om = new ObjectMapper();
-        om.registerModule(new Jdk8Module());
-        om.registerModule(new JavaTimeModule());
+        final List<M> parsedMessages = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                parsedMessages.add(futures.get(i).join());
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+                result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER,
+                        "Error parsing JSON message " + (i + 1) + " of the bulletin", cause));
+            }
+        }
         try {
-            final T o = om.readValue(input, implClz);
+            result.setConvertedMessage(messageAppender.apply(bulletin, parsedMessages));
+        } catch (final RuntimeException e) {
+            result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error parsing JSON", e));
+            result.setStatus(ConversionResult.Status.FAIL);
+        }
+        return result;
+    }
+
+    private static <M> M readMessage(final ObjectReader reader, final TokenBuffer message) {
+        try {
+            return reader.readValue(message.asParser());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the reader used for parsing messages of the given class. By default, the shared JSON reader
+     * of {@link JSONMapperRegistry}.
+     *
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     *
+     * @return reader for <code>implClz</code>
+     */
+    protected ObjectReader getReader(final Class<?> implClz) {
+        return JSONMapperRegistry.readerFor(implClz);
+    }
+
+    static ValueInterner internerOf(final ConversionHints hints) {
+        return hints == null ? null : (ValueInterner) hints.get(ConversionHints.KEY_VALUE_INTERNER);
+    }
+
+    private <T extends AviationWeatherMessageOrCollection> ConversionResult<T> parse(final Class<? extends T> implClz, final ConversionHints hints,
+            final ValueReader<T> valueReader) {
+        final ConversionResult<T> result = new ConversionResult<>();
+        try {
+            final T o = valueReader.read(JSONMapperRegistry.withInterner(getReader(implClz), internerOf(hints)));
             result.setConvertedMessage(o);
             result.setStatus(ConversionResult.Status.SUCCESS);
         } catch (final Exception e) {
@@ -47,4 +262,9 @@ public abstract class AbstractJSONParser {
         }
         return result;
     }
+
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read(ObjectReader reader) throws IOException;
+    }
 }
@@ -1,12 +1,11 @@
 package fi.fmi.avi.converter.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.io.Writer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.converter.ConversionIssue;
@@ -21,6 +20,9 @@ public abstract class AbstractJSONSerializer {
     /**
      * Runs the conversion from AviationWeatherMessage to JSON.
      * Uses Jackson internally to write the JSON (supports Jackson modules Jdk8 and JavaTime).
+     * The writer for the runtime class of <code>input</code> is shared through {@link JSONMapperRegistry}.
+     * The output is pretty-printed unless {@link ConversionHints#KEY_JSON_OUTPUT_FORMAT} is set to
+     * {@link ConversionHints#VALUE_JSON_OUTPUT_FORMAT_COMPACT}.
      *
      * @param input
      *         the message POJO to convert
@@ -30,15 +32,105 @@ public abstract class AbstractJSONSerializer {
      * @return the result of the conversion
      */
     protected ConversionResult<String> doConvertMessage(final AviationWeatherMessageOrCollection input, final ConversionHints hints) {
-        final ConversionResult<String> result = new ConversionResult<>();
-        final ObjectMapper om = new ObjectMapper();
-        om.registerModule(new Jdk8Module());
-        om.registerModule(new JavaTimeModule());
-        final ObjectWriter writer = om.writerWithDefaultPrettyPrinter();
-        final StringWriter sw = new StringWriter();
-        try {
+        return serialize(input, hints, ConversionHints.VALUE_JSON_OUTPUT_FORMAT_PRETTY, writer -> {
+            final StringWriter sw = new StringWriter();
             writer.writeValue(sw, input);
-            result.setConvertedMessage(sw.toString());
+            return sw.toString();
+        });
+    }
+
+    /**
+     * Runs the conversion from AviationWeatherMessage to UTF-8 encoded JSON bytes. The bytes are
+     * written directly without building an intermediate String. The output is compact unless
+     * {@link ConversionHints#KEY_JSON_OUTPUT_FORMAT} is set to {@link ConversionHints#VALUE_JSON_OUTPUT_FORMAT_PRETTY}.
+     *
+     * @param input
+     *         the message POJO to convert
+     * @param hints
+     *         hints to guide the conversion.
+     *
+     * @return the result of the conversion
+     */
+    protected ConversionResult<byte[]> doConvertMessageToBytes(final AviationWeatherMessageOrCollection input, final ConversionHints hints) {
+        return serialize(input, hints, ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT, writer -> writer.writeValueAsBytes(input));
+    }
+
+    /**
+     * Writes the AviationWeatherMessage as UTF-8 encoded JSON to the given stream. The stream is flushed but not closed.
+     * The output is compact unless {@link ConversionHints#KEY_JSON_OUTPUT_FORMAT} is set to
+     * {@link ConversionHints#VALUE_JSON_OUTPUT_FORMAT_PRETTY}.
+     *
+     * @param input
+     *         the message POJO to convert
+     * @param output
+     *         the stream to write to
+     * @param hints
+     *         hints to guide the conversion.
+     * @param <S>
+     *         type of the output stream
+     *
+     * @return the result of the conversion, with <code>output</code> as the converted message
+     */
+    protected <S extends OutputStream> ConversionResult<S> doWriteMessage(final AviationWeatherMessageOrCollection input, final S output,
+            final ConversionHints hints) {
+        return serialize(input, hints, ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT, writer -> {
+            writer.writeValue(output, input);
+            return output;
+        });
+    }
+
+    /**
+     * Writes the AviationWeatherMessage as JSON to the given character stream. The writer is flushed but not closed.
+     * The output is compact unless {@link ConversionHints#KEY_JSON_OUTPUT_FORMAT} is set to
+     * {@link ConversionHints#VALUE_JSON_OUTPUT_FORMAT_PRETTY}.
+     *
+     * @param input
+     *         the message POJO to convert
+     * @param output
+     *         the writer to write to
+     * @param hints
+     *         hints to guide the conversion.
+     * @param <W>
+     *         type of the writer
+     *
+     * @return the result of the conversion, with <code>output</code> as the converted message
+     */
+    protected <W extends Writer> ConversionResult<W> doWriteMessage(final AviationWeatherMessageOrCollection input, final W output,
+            final ConversionHints hints) {
+        return serialize(input, hints, ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT, writer -> {
+            writer.writeValue(output, input);
+            return output;
+        });
+    }
+
+    /**
+     * Returns the writer used for serializing messages of the given class. By default, the shared JSON
+     * writers of {@link JSONMapperRegistry}.
+     *
+     * @param implClz
+     *         the runtime class of the objects to write, or null for an untyped writer
+     * @param pretty
+     *         true for pretty-printed output, false for compact output
+     *
+     * @return writer for <code>implClz</code>
+     */
+    protected ObjectWriter getWriter(final Class<?> implClz, final boolean pretty) {
+        return pretty ? JSONMapperRegistry.prettyWriterFor(implClz) : JSONMapperRegistry.compactWriterFor(implClz);
+    }
+
+    private ObjectWriter writerFor(final AviationWeatherMessageOrCollection input, final ConversionHints hints, final Object defaultFormat) {
+        Object format = hints == null ? null : hints.get(ConversionHints.KEY_JSON_OUTPUT_FORMAT);
+        if (format == null) {
+            format = defaultFormat;
+        }
+        return getWriter(input == null ? null : input.getClass(), !ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT.equals(format));
+    }
+
+    private <T> ConversionResult<T> serialize(final AviationWeatherMessageOrCollection input, final ConversionHints hints, final Object defaultFormat,
+            final ValueWriter<T> valueWriter) {
+        final ConversionResult<T> result = new ConversionResult<>();
+        try {
+            result.setConvertedMessage(valueWriter.write(writerFor(input, hints, defaultFormat)));
             result.setStatus(ConversionResult.Status.SUCCESS);
         } catch (final IOException e) {
             result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error in serializing to JSON", e));
@@ -46,4 +138,9 @@ public abstract class AbstractJSONSerializer {
         }
         return result;
     }
+
+    @FunctionalInterface
+    private interface ValueWriter<T> {
+        T write(ObjectWriter writer) throws IOException;
+    }
 }
@@ -1,16 +1,40 @@
 package fi.fmi.avi.converter.json;
 
+import java.util.concurrent.Executor;
+
 import fi.fmi.avi.converter.AviMessageSpecificConverter;
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.converter.ConversionResult;
 import fi.fmi.avi.model.bulletin.GenericMeteorologicalBulletin;
 import fi.fmi.avi.model.bulletin.immutable.GenericMeteorologicalBulletinImpl;
+import fi.fmi.avi.model.immutable.GenericAviationWeatherMessageImpl;
 
 /**
  * A simple wrapper to specialize the {@link AbstractJSONParser} for TAFBulletin.
  */
 public class GenericMeteorologicalBulletinJSONParser extends AbstractJSONParser implements AviMessageSpecificConverter<String, GenericMeteorologicalBulletin> {
 
+    private final Executor executor;
+
+    /**
+     * Creates a parser deserializing the whole bulletin on the calling thread.
+     */
+    public GenericMeteorologicalBulletinJSONParser() {
+        this(null);
+    }
+
+    /**
+     * Creates a parser deserializing the contained messages in parallel on the given executor.
+     *
+     * @param executor
+     *         executor for deserializing the contained messages, or null to deserialize the whole bulletin on the calling thread
+     *
+     * @see AbstractJSONParser#doConvertBulletin(String, Class, Class, Class, java.util.function.BiFunction, Executor, ConversionHints)
+     */
+    public GenericMeteorologicalBulletinJSONParser(final Executor executor) {
+        this.executor = executor;
+    }
+
     /**
      * Converts JSON to TAFBulletin Object.
      *
@@ -23,6 +47,10 @@ public class GenericMeteorologicalBulletinJSONParser extends AbstractJSONParser
      */
     @Override
     public ConversionResult<GenericMeteorologicalBulletin> convertMessage(final String input, final ConversionHints hints) {
+        if (executor != null) {
+            return doConvertBulletin(input, GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class, GenericAviationWeatherMessageImpl.class,
+                    (bulletin, messages) -> GenericMeteorologicalBulletinImpl.immutableCopyOf(bulletin).toBuilder().addAllMessages(messages).build(), executor, hints);
+        }
         return doConvertMessage(input, GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class, hints);
     }
 }
@@ -0,0 +1,63 @@
+package fi.fmi.avi.converter.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+import fi.fmi.avi.model.immutable.AerodromeImpl;
+import fi.fmi.avi.model.immutable.CoordinateReferenceSystemImpl;
+import fi.fmi.avi.model.immutable.NumericMeasureImpl;
+import fi.fmi.avi.model.immutable.ValueInterner;
+import fi.fmi.avi.model.immutable.WeatherImpl;
+
+/**
+ * Wraps the deserializers of the frequently repeated immutable value classes to intern the deserialized values with the
+ * {@link ValueInterner} set as the reader attribute {@link #ATTRIBUTE}. Without the attribute the values are returned as is.
+ */
+final class InterningDeserializerModifier extends BeanDeserializerModifier {
+
+    static final Object ATTRIBUTE = ValueInterner.class;
+
+    private static final Set<Class<?>> INTERNED_CLASSES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(AerodromeImpl.class, CoordinateReferenceSystemImpl.class, NumericMeasureImpl.class, WeatherImpl.class)));
+
+    @Override
+    public JsonDeserializer<?> modifyDeserializer(final DeserializationConfig config, final BeanDescription beanDesc, final JsonDeserializer<?> deserializer) {
+        final Class<?> beanClass = beanDesc.getBeanClass();
+        // builder based deserializers are described by the builder class nested in the value class
+        if (INTERNED_CLASSES.contains(beanClass) || INTERNED_CLASSES.contains(beanClass.getDeclaringClass())) {
+            return new InterningDeserializer(deserializer);
+        }
+        return deserializer;
+    }
+
+    private static final class InterningDeserializer extends DelegatingDeserializer {
+        private static final long serialVersionUID = 4425309913374001542L;
+
+        InterningDeserializer(final JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+            return new InterningDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            final Object value = super.deserialize(p, ctxt);
+            final Object interner = ctxt.getAttribute(ATTRIBUTE);
+            return interner == null ? value : ((ValueInterner) interner).intern(value);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package fi.fmi.avi.converter.json;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import fi.fmi.avi.converter.AviMessageSpecificConverter;
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+
+/**
+ * Specializes {@link AbstractJSONParser} for reading messages directly from JSON bytes, without
+ * decoding them into a String first.
+ *
+ * In addition to the byte array conversion, the parser can read the message from an {@link InputStream}
+ * or a {@link ByteBuffer}. Besides textual JSON, the parser can read the binary encodings listed in {@link JSONDataFormat}.
+ *
+ * @param <T>
+ *         type of the parsed message
+ */
+public class JSONBytesParser<T extends AviationWeatherMessageOrCollection> extends AbstractJSONParser implements AviMessageSpecificConverter<byte[], T> {
+
+    private final JSONDataFormat format;
+    private final Class<T> clz;
+    private final Class<? extends T> implClz;
+
+    /**
+     * Creates a JSON parser.
+     *
+     * @param clz
+     *         class of intended type of the parsed messages
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     */
+    public JSONBytesParser(final Class<T> clz, final Class<? extends T> implClz) {
+        this(JSONDataFormat.JSON, clz, implClz);
+    }
+
+    /**
+     * Creates a parser for the given data format.
+     *
+     * @param format
+     *         the data format to read
+     * @param clz
+     *         class of intended type of the parsed messages
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     */
+    public JSONBytesParser(final JSONDataFormat format, final Class<T> clz, final Class<? extends T> implClz) {
+        this.format = Objects.requireNonNull(format, "format");
+        this.clz = Objects.requireNonNull(clz, "clz");
+        this.implClz = Objects.requireNonNull(implClz, "implClz");
+    }
+
+    /**
+     * Converts a JSON message encoded in UTF-8, UTF-16 or UTF-32 into a message Object.
+     *
+     * @param input input message
+     * @param hints parsing hints
+     * @return the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    @Override
+    public ConversionResult<T> convertMessage(final byte[] input, final ConversionHints hints) {
+        return doConvertMessage(input, clz, implClz, hints);
+    }
+
+    /**
+     * Converts a JSON message in the remaining bytes of the buffer into a message Object.
+     * The position of the buffer is not changed.
+     *
+     * @param input input message
+     * @param hints parsing hints
+     * @return the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    public ConversionResult<T> convertMessage(final ByteBuffer input, final ConversionHints hints) {
+        return doConvertMessage(input, clz, implClz, hints);
+    }
+
+    /**
+     * Reads a JSON message from the stream and converts it into a message Object. The stream is not closed.
+     *
+     * @param input input message
+     * @param hints parsing hints
+     * @return the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    public ConversionResult<T> convertMessage(final InputStream input, final ConversionHints hints) {
+        return doConvertMessage(input, clz, implClz, hints);
+    }
+
+    @Override
+    protected ObjectReader getReader(final Class<?> implClz) {
+        return JSONMapperRegistry.readerFor(format, implClz);
+    }
+}
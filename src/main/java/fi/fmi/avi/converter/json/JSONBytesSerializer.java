@@ -0,0 +1,103 @@
+package fi.fmi.avi.converter.json;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import fi.fmi.avi.converter.AviMessageSpecificConverter;
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionIssue;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+
+/**
+ * Specializes {@link AbstractJSONSerializer} for writing messages directly as UTF-8 encoded JSON bytes,
+ * without building an intermediate String.
+ *
+ * The output is compact by default, see {@link fi.fmi.avi.converter.ConversionHints#KEY_JSON_OUTPUT_FORMAT}.
+ * Besides textual JSON, the serializer can write the binary encodings listed in {@link JSONDataFormat}.
+ *
+ * In addition to the byte array conversion, the serializer can write the message to an {@link OutputStream}
+ * or a {@link Writer} provided by the caller.
+ *
+ * @param <T>
+ *         type of the serialized message
+ */
+public class JSONBytesSerializer<T extends AviationWeatherMessageOrCollection> extends AbstractJSONSerializer
+        implements AviMessageSpecificConverter<T, byte[]> {
+
+    private final JSONDataFormat format;
+
+    /**
+     * Creates a JSON serializer.
+     */
+    public JSONBytesSerializer() {
+        this(JSONDataFormat.JSON);
+    }
+
+    /**
+     * Creates a serializer for the given data format.
+     *
+     * @param format
+     *         the data format to write
+     */
+    public JSONBytesSerializer(final JSONDataFormat format) {
+        this.format = Objects.requireNonNull(format, "format");
+    }
+
+    /**
+     * Converts a message object into UTF-8 encoded JSON.
+     *
+     * @param input input message
+     * @param hints parsing hints
+     * @return the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    @Override
+    public ConversionResult<byte[]> convertMessage(final T input, final ConversionHints hints) {
+        return doConvertMessageToBytes(input, hints);
+    }
+
+    /**
+     * Writes a message object as UTF-8 encoded JSON to the stream. The stream is flushed but not closed.
+     *
+     * @param input input message
+     * @param output stream to write to
+     * @param hints parsing hints
+     * @param <S> type of the stream
+     * @return the {@link ConversionResult} with <code>output</code> as the converted message and the possible conversion issues
+     */
+    public <S extends OutputStream> ConversionResult<S> writeMessage(final T input, final S output, final ConversionHints hints) {
+        return doWriteMessage(input, output, hints);
+    }
+
+    /**
+     * Writes a message object as JSON to the writer. The writer is flushed but not closed.
+     *
+     * @param input input message
+     * @param output writer to write to
+     * @param hints parsing hints
+     * @param <W> type of the writer
+     * @return the {@link ConversionResult} with <code>output</code> as the converted message and the possible conversion issues,
+     *         or a failed result without a converted message if the data format of this serializer is binary
+     */
+    public <W extends Writer> ConversionResult<W> writeMessage(final T input, final W output, final ConversionHints hints) {
+        if (format != JSONDataFormat.JSON) {
+            final ConversionResult<W> result = new ConversionResult<>();
+            result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER,
+                    "Cannot write " + format + " to a character stream, write it to an OutputStream instead"));
+            result.setStatus(ConversionResult.Status.FAIL);
+            return result;
+        }
+        return doWriteMessage(input, output, hints);
+    }
+
+    @Override
+    protected ObjectWriter getWriter(final Class<?> implClz, final boolean pretty) {
+        if (format == JSONDataFormat.JSON) {
+            return super.getWriter(implClz, pretty);
+        }
+        return JSONMapperRegistry.compactWriterFor(format, implClz);
+    }
+}
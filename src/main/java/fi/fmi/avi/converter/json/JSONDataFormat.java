@@ -0,0 +1,49 @@
+package fi.fmi.avi.converter.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * The encodings of the fmi-avi-messageconverter JSON data model. All the formats share the same Jackson
+ * annotations of the message model classes, and thus the same document structure.
+ */
+public enum JSONDataFormat {
+    /**
+     * Textual JSON.
+     */
+    JSON("JSON"),
+
+    /**
+     * The binary Smile encoding of JSON, with back-references for repeated property names and short String values.
+     */
+    SMILE("Smile"),
+
+    /**
+     * The Concise Binary Object Representation (RFC 7049).
+     */
+    CBOR("CBOR");
+
+    private final String displayName;
+
+    JSONDataFormat(final String displayName) {
+        this.displayName = displayName;
+    }
+
+    JsonFactory createFactory() {
+        switch (this) {
+            case SMILE:
+                return new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+            case CBOR:
+                return new CBORFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,174 @@
+package fi.fmi.avi.converter.json;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import fi.fmi.avi.model.immutable.ValueInterner;
+
+/**
+ * Process-wide registry of pre-configured Jackson readers and writers used by the JSON parsers and serializers.
+ *
+ * <p>
+ * A single {@link ObjectMapper} with the Jdk8 and JavaTime modules registered is created once for each
+ * {@link JSONDataFormat} and never reconfigured after construction. The immutable {@link ObjectReader} and
+ * {@link ObjectWriter} instances derived from them are cached per message implementation class, so the Jackson
+ * (de)serializer caches survive between conversions. All the methods are safe to call from multiple threads concurrently.
+ * </p>
+ * <p>
+ * The readers and writers never close the streams they read from or write to, so that the callers may pass
+ * their own streams, such as network or file streams, to convert several messages in a row.
+ * </p>
+ */
+public final class JSONMapperRegistry {
+
+    private static final Map<JSONDataFormat, Mappers> MAPPERS = createMappers();
+    private static final Mappers JSON_MAPPERS = MAPPERS.get(JSONDataFormat.JSON);
+
+    private JSONMapperRegistry() {
+        throw new AssertionError();
+    }
+
+    private static Map<JSONDataFormat, Mappers> createMappers() {
+        final Map<JSONDataFormat, Mappers> retval = new EnumMap<>(JSONDataFormat.class);
+        for (final JSONDataFormat format : JSONDataFormat.values()) {
+            retval.put(format, new Mappers(createObjectMapper(format)));
+        }
+        return retval;
+    }
+
+    private static ObjectMapper createObjectMapper(final JSONDataFormat format) {
+        final ObjectMapper om = new ObjectMapper(format.createFactory());
+        om.registerModule(new Jdk8Module());
+        om.registerModule(new JavaTimeModule());
+        om.registerModule(new SimpleModule("ValueInterning").setDeserializerModifier(new InterningDeserializerModifier()));
+        om.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+        om.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        return om;
+    }
+
+    /**
+     * Returns a reader interning the frequently repeated immutable values, such as aerodromes, units of measure
+     * and weather codes, with the given interner.
+     *
+     * @param reader
+     *         a reader obtained from this registry
+     * @param interner
+     *         the interner to use, or null to return <code>reader</code> as is
+     *
+     * @return reader interning the values with <code>interner</code>
+     */
+    public static ObjectReader withInterner(final ObjectReader reader, final ValueInterner interner) {
+        return interner == null ? reader : reader.withAttribute(InterningDeserializerModifier.ATTRIBUTE, interner);
+    }
+
+    /**
+     * Returns a reader bound to the given class, creating and caching it on first use.
+     *
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     *
+     * @return shared reader for <code>implClz</code>
+     */
+    public static ObjectReader readerFor(final Class<?> implClz) {
+        return JSON_MAPPERS.readerFor(implClz);
+    }
+
+    /**
+     * Returns a reader of the given data format bound to the given class, creating and caching it on first use.
+     *
+     * @param format
+     *         the data format to read
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     *
+     * @return shared reader for <code>implClz</code>
+     */
+    public static ObjectReader readerFor(final JSONDataFormat format, final Class<?> implClz) {
+        return MAPPERS.get(format).readerFor(implClz);
+    }
+
+    /**
+     * Returns a pretty-printing writer bound to the given class, creating and caching it on first use.
+     *
+     * @param implClz
+     *         the runtime class of the objects to write, or null for an untyped writer
+     *
+     * @return shared writer for <code>implClz</code>
+     */
+    public static ObjectWriter prettyWriterFor(final Class<?> implClz) {
+        return JSON_MAPPERS.prettyWriterFor(implClz);
+    }
+
+    /**
+     * Returns a compact writer bound to the given class, creating and caching it on first use. The compact
+     * writer writes no whitespace between the JSON tokens.
+     *
+     * @param implClz
+     *         the runtime class of the objects to write, or null for an untyped writer
+     *
+     * @return shared writer for <code>implClz</code>
+     */
+    public static ObjectWriter compactWriterFor(final Class<?> implClz) {
+        return JSON_MAPPERS.compactWriterFor(implClz);
+    }
+
+    /**
+     * Returns a writer of the given data format bound to the given class, creating and caching it on first use.
+     * For {@link JSONDataFormat#JSON} the writer is compact.
+     *
+     * @param format
+     *         the data format to write
+     * @param implClz
+     *         the runtime class of the objects to write, or null for an untyped writer
+     *
+     * @return shared writer for <code>implClz</code>
+     */
+    public static ObjectWriter compactWriterFor(final JSONDataFormat format, final Class<?> implClz) {
+        return MAPPERS.get(format).compactWriterFor(implClz);
+    }
+
+    private static final class Mappers {
+        private final ObjectMapper mapper;
+        private final ObjectWriter compactWriter;
+        private final ObjectWriter prettyWriter;
+        private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, ObjectWriter> compactWriters = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, ObjectWriter> prettyWriters = new ConcurrentHashMap<>();
+
+        Mappers(final ObjectMapper mapper) {
+            this.mapper = mapper;
+            this.compactWriter = mapper.writer();
+            this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+        }
+
+        ObjectReader readerFor(final Class<?> implClz) {
+            return readers.computeIfAbsent(implClz, mapper::readerFor);
+        }
+
+        ObjectWriter compactWriterFor(final Class<?> implClz) {
+            if (implClz == null) {
+                return compactWriter;
+            }
+            return compactWriters.computeIfAbsent(implClz, compactWriter::forType);
+        }
+
+        ObjectWriter prettyWriterFor(final Class<?> implClz) {
+            if (implClz == null) {
+                return prettyWriter;
+            }
+            return prettyWriters.computeIfAbsent(implClz, prettyWriter::forType);
+        }
+    }
+
+}
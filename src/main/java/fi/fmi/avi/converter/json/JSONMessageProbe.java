@@ -0,0 +1,286 @@
+package fi.fmi.avi.converter.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionIssue;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessage;
+import fi.fmi.avi.model.MessageType;
+import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
+import fi.fmi.avi.model.bulletin.BulletinHeading;
+import fi.fmi.avi.model.bulletin.immutable.BulletinHeadingImpl;
+import fi.fmi.avi.model.immutable.ValueInterner;
+
+/**
+ * Extracts the routing related header fields of a fmi-avi-messageconverter JSON message or bulletin without
+ * deserializing the whole document.
+ *
+ * The document is read as a stream of tokens. Only the issue time and the bulletin heading are bound to
+ * model objects, the other fields are read token by token, and all the other subtrees such as forecasts,
+ * observations and geometries are skipped without materializing them. If a {@link ValueInterner} is given
+ * with {@link ConversionHints#KEY_VALUE_INTERNER}, the location indicator, issue time and bulletin heading
+ * are interned with it.
+ *
+ * The message type is inferred from the properties present in the document: the JSON documents do not
+ * contain an explicit message type. For bulletins, the message type is the expected contained message type
+ * of the bulletin heading. Instances are stateless and safe to use from multiple threads concurrently.
+ */
+public class JSONMessageProbe {
+
+    private static final JsonFactory FACTORY = JSONMapperRegistry.readerFor(PartialOrCompleteTimeInstant.class).getFactory();
+
+    /**
+     * Probes a JSON document given as a String.
+     *
+     * @param input
+     *         the JSON document
+     * @param hints
+     *         conversion hints, {@link ConversionHints#KEY_VALUE_INTERNER} is honored
+     *
+     * @return result with the summary of the document, or failure if the document is not valid JSON
+     */
+    public ConversionResult<Summary> probe(final String input, final ConversionHints hints) {
+        try (JsonParser parser = FACTORY.createParser(input)) {
+            return probe(parser, AbstractJSONParser.internerOf(hints));
+        } catch (final IOException | RuntimeException e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Probes a UTF-8, UTF-16 or UTF-32 encoded JSON document.
+     *
+     * @param input
+     *         the JSON document
+     * @param hints
+     *         conversion hints, {@link ConversionHints#KEY_VALUE_INTERNER} is honored
+     *
+     * @return result with the summary of the document, or failure if the document is not valid JSON
+     */
+    public ConversionResult<Summary> probe(final byte[] input, final ConversionHints hints) {
+        try (JsonParser parser = FACTORY.createParser(input)) {
+            return probe(parser, AbstractJSONParser.internerOf(hints));
+        } catch (final IOException | RuntimeException e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Probes a JSON document read from a stream. The stream is read until the end of the document, but not closed.
+     *
+     * @param input
+     *         the JSON document
+     * @param hints
+     *         conversion hints, {@link ConversionHints#KEY_VALUE_INTERNER} is honored
+     *
+     * @return result with the summary of the document, or failure if the document is not valid JSON
+     */
+    public ConversionResult<Summary> probe(final InputStream input, final ConversionHints hints) {
+        try (JsonParser parser = FACTORY.createParser(input)) {
+            return probe(parser, AbstractJSONParser.internerOf(hints));
+        } catch (final IOException | RuntimeException e) {
+            return failure(e);
+        }
+    }
+
+    private static ConversionResult<Summary> failure(final Exception e) {
+        final ConversionResult<Summary> result = new ConversionResult<>();
+        result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.SYNTAX, "Error probing JSON", e));
+        result.setStatus(ConversionResult.Status.FAIL);
+        return result;
+    }
+
+    private static ConversionResult<Summary> probe(final JsonParser parser, final ValueInterner interner) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            final ConversionResult<Summary> result = new ConversionResult<>();
+            result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.SYNTAX, "JSON document is not an object"));
+            result.setStatus(ConversionResult.Status.FAIL);
+            return result;
+        }
+        final Summary summary = new Summary();
+        boolean aerodrome = false;
+        boolean tafContent = false;
+        boolean metarContent = false;
+        boolean airTrafficServicesUnit = false;
+        boolean phenomenonType = false;
+        boolean advisoryContent = false;
+        boolean messages = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            switch (field) {
+                case "aerodrome":
+                    aerodrome = true;
+                    summary.locationIndicator = intern(interner, readDesignator(parser));
+                    break;
+                case "issuingAirTrafficServicesUnit":
+                    airTrafficServicesUnit = true;
+                    summary.locationIndicator = intern(interner, readDesignator(parser));
+                    break;
+                case "issueTime":
+                    if (value == JsonToken.START_OBJECT) {
+                        summary.issueTime = intern(interner, JSONMapperRegistry.readerFor(PartialOrCompleteTimeInstant.class).readValue(parser));
+                    }
+                    break;
+                case "reportStatus":
+                    if (value == JsonToken.VALUE_STRING) {
+                        summary.reportStatus = AviationWeatherMessage.ReportStatus.valueOf(parser.getText());
+                    }
+                    break;
+                case "heading":
+                    if (value == JsonToken.START_OBJECT) {
+                        summary.bulletinHeading = intern(interner, JSONMapperRegistry.readerFor(BulletinHeadingImpl.class).readValue(parser));
+                    }
+                    break;
+                case "messages":
+                    messages = true;
+                    summary.messageCount = countElements(parser);
+                    break;
+                case "phenomenonType":
+                    phenomenonType = true;
+                    break;
+                case "baseForecast":
+                case "changeForecasts":
+                case "validityTime":
+                    tafContent = true;
+                    parser.skipChildren();
+                    break;
+                case "surfaceWind":
+                case "clouds":
+                case "trends":
+                case "airTemperature":
+                case "altimeterSettingQNH":
+                    metarContent = true;
+                    parser.skipChildren();
+                    break;
+                case "issuingCenter":
+                case "advisoryNumber":
+                    advisoryContent = true;
+                    parser.skipChildren();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (summary.bulletinHeading != null || messages) {
+            summary.bulletin = true;
+            if (summary.bulletinHeading != null) {
+                summary.messageType = summary.bulletinHeading.getExpectedContainedMessageType().orElse(null);
+            }
+        } else if (aerodrome && tafContent) {
+            summary.messageType = MessageType.TAF;
+        } else if (aerodrome && metarContent) {
+            summary.messageType = MessageType.METAR;
+        } else if (airTrafficServicesUnit) {
+            summary.messageType = phenomenonType ? MessageType.SIGMET : MessageType.AIRMET;
+        } else if (advisoryContent) {
+            summary.messageType = MessageType.SPACE_WEATHER_ADVISORY;
+        }
+        final ConversionResult<Summary> result = new ConversionResult<>();
+        result.setConvertedMessage(summary);
+        return result;
+    }
+
+    private static <T> T intern(final ValueInterner interner, final T value) {
+        return interner == null ? value : interner.intern(value);
+    }
+
+    private static String readDesignator(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String designator = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.VALUE_STRING && "designator".equals(field)) {
+                designator = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return designator;
+    }
+
+    private static int countElements(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return 0;
+        }
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * The routing related header fields of a message or bulletin.
+     */
+    public static final class Summary {
+        private MessageType messageType;
+        private boolean bulletin;
+        private String locationIndicator;
+        private PartialOrCompleteTimeInstant issueTime;
+        private AviationWeatherMessage.ReportStatus reportStatus;
+        private BulletinHeading bulletinHeading;
+        private int messageCount;
+
+        Summary() {
+        }
+
+        /**
+         * @return the inferred message type, or the expected contained message type for bulletins
+         */
+        public Optional<MessageType> getMessageType() {
+            return Optional.ofNullable(messageType);
+        }
+
+        /**
+         * @return true if the document is a bulletin
+         */
+        public boolean isBulletin() {
+            return bulletin;
+        }
+
+        /**
+         * @return the aerodrome or the air traffic services unit designator of a message
+         */
+        public Optional<String> getLocationIndicator() {
+            return Optional.ofNullable(locationIndicator);
+        }
+
+        public Optional<PartialOrCompleteTimeInstant> getIssueTime() {
+            return Optional.ofNullable(issueTime);
+        }
+
+        public Optional<AviationWeatherMessage.ReportStatus> getReportStatus() {
+            return Optional.ofNullable(reportStatus);
+        }
+
+        public Optional<BulletinHeading> getBulletinHeading() {
+            return Optional.ofNullable(bulletinHeading);
+        }
+
+        /**
+         * @return number of messages in a bulletin, 0 for a single message
+         */
+        public int getMessageCount() {
+            return messageCount;
+        }
+
+        @Override
+        public String toString() {
+            return (bulletin ? "bulletin of " + messageCount + " " : "") + messageType + " " + (locationIndicator == null ? "" : locationIndicator + " ")
+                    + issueTime + " " + reportStatus;
+        }
+    }
+}
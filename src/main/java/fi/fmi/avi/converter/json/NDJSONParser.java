@@ -0,0 +1,187 @@
+package fi.fmi.avi.converter.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionIssue;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+
+/**
+ * Parser for newline-delimited JSON (NDJSON, JSON lines) streams with one message per record.
+ *
+ * A single Jackson parser is used for the whole input stream, and the records are parsed one at a time as the
+ * returned {@link Records} iterator is advanced, so streams of any length can be read in constant memory.
+ * Each record produces its own {@link ConversionResult}: a record which is valid JSON but not a valid message
+ * results in a {@link ConversionResult.Status#FAIL} result, and the parsing continues from the next record.
+ * Malformed JSON cannot be recovered from, so it results in a failed record ending the iteration.
+ *
+ * Instances are stateless and safe to use from multiple threads concurrently, but the returned iterators
+ * and streams are not.
+ *
+ * @param <T>
+ *         type of the parsed messages
+ *
+ * @see NDJSONWriter
+ */
+public class NDJSONParser<T extends AviationWeatherMessageOrCollection> {
+
+    private final Class<? extends T> implClz;
+
+    /**
+     * Creates a parser.
+     *
+     * @param clz
+     *         class of intended type of the parsed messages
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     */
+    public NDJSONParser(final Class<T> clz, final Class<? extends T> implClz) {
+        Objects.requireNonNull(clz, "clz");
+        this.implClz = Objects.requireNonNull(implClz, "implClz");
+    }
+
+    /**
+     * Returns an iterator over the messages in the stream. The input stream is not closed by the iterator.
+     *
+     * @param input
+     *         UTF-8 encoded NDJSON stream
+     * @param hints
+     *         parsing hints
+     *
+     * @return iterator of the conversion results, one per record
+     *
+     * @throws IOException
+     *         if creating the parser fails
+     */
+    public Records<T> parse(final InputStream input, final ConversionHints hints) throws IOException {
+        final ObjectReader reader = JSONMapperRegistry.withInterner(JSONMapperRegistry.readerFor(implClz), AbstractJSONParser.internerOf(hints));
+        return new Records<>(reader, reader.getFactory().createParser(input));
+    }
+
+    /**
+     * Returns a sequential stream of the messages in the stream. Closing the returned stream releases the
+     * parser, but does not close the input stream.
+     *
+     * @param input
+     *         UTF-8 encoded NDJSON stream
+     * @param hints
+     *         parsing hints
+     *
+     * @return stream of the conversion results, one per record
+     *
+     * @throws IOException
+     *         if creating the parser fails
+     */
+    public Stream<ConversionResult<T>> stream(final InputStream input, final ConversionHints hints) throws IOException {
+        final Records<T> records = parse(input, hints);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+            try {
+                records.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Iterator over the records of a single NDJSON stream.
+     *
+     * @param <T>
+     *         type of the parsed messages
+     */
+    public static final class Records<T> implements Iterator<ConversionResult<T>>, Closeable {
+        private final ObjectReader reader;
+        private final JsonParser parser;
+        private ConversionResult<T> next;
+        private boolean finished;
+        private int recordNumber;
+
+        Records(final ObjectReader reader, final JsonParser parser) {
+            this.reader = reader;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                next = readNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ConversionResult<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ConversionResult<T> retval = next;
+            next = null;
+            return retval;
+        }
+
+        /**
+         * @return the number of records read so far
+         */
+        public int getRecordNumber() {
+            return recordNumber;
+        }
+
+        @Override
+        public void close() throws IOException {
+            finished = true;
+            parser.close();
+        }
+
+        private ConversionResult<T> readNext() {
+            final TokenBuffer record;
+            try {
+                if (parser.nextToken() == null) {
+                    close();
+                    return null;
+                }
+                recordNumber++;
+                record = new TokenBuffer(parser);
+                record.copyCurrentStructure(parser);
+            } catch (final IOException e) {
+                finished = true;
+                return failure(e instanceof JsonProcessingException ? "Malformed JSON in record " + recordNumber : "Error reading record " + recordNumber, e);
+            }
+            if (record.firstToken() != JsonToken.START_OBJECT) {
+                return failure("Record " + recordNumber + " is not a JSON object", null);
+            }
+            final ConversionResult<T> result = new ConversionResult<>();
+            try (JsonParser recordParser = record.asParser(parser.getCodec())) {
+                result.setConvertedMessage(reader.readValue(recordParser));
+                result.setStatus(ConversionResult.Status.SUCCESS);
+            } catch (final Exception e) {
+                result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error parsing JSON record " + recordNumber, e));
+                result.setStatus(ConversionResult.Status.FAIL);
+            }
+            return result;
+        }
+
+        private ConversionResult<T> failure(final String message, final Throwable cause) {
+            final ConversionResult<T> result = new ConversionResult<>();
+            result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.SYNTAX, message, cause));
+            result.setStatus(ConversionResult.Status.FAIL);
+            return result;
+        }
+    }
+}
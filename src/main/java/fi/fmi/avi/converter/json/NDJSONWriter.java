@@ -0,0 +1,85 @@
+package fi.fmi.avi.converter.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+
+/**
+ * Incremental writer of newline-delimited JSON (NDJSON, JSON lines) streams with one message per record.
+ *
+ * A single Jackson generator is used for all the records written to the stream. Each message is written as
+ * compact UTF-8 encoded JSON followed by a newline. The output is buffered, and flushed to the stream only
+ * when the buffer is full or {@link #flush()} is called. Closing the writer flushes it, but does not close the
+ * underlying stream. Instances are not thread-safe.
+ *
+ * @param <T>
+ *         type of the written messages
+ *
+ * @see NDJSONParser
+ */
+public class NDJSONWriter<T extends AviationWeatherMessageOrCollection> implements Closeable, Flushable {
+
+    private final JsonGenerator generator;
+    private Class<?> writerClass;
+    private ObjectWriter writer;
+    private long recordCount;
+
+    /**
+     * Creates a writer appending to the given stream.
+     *
+     * @param output
+     *         the stream to write to
+     *
+     * @throws IOException
+     *         if creating the generator fails
+     */
+    public NDJSONWriter(final OutputStream output) throws IOException {
+        this.generator = JSONMapperRegistry.compactWriterFor(null).getFactory().createGenerator(output, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * Writes one message as a single line.
+     *
+     * @param message
+     *         the message to write
+     *
+     * @throws IOException
+     *         if serializing or writing the message fails
+     */
+    public void write(final T message) throws IOException {
+        final Class<?> messageClass = message == null ? null : message.getClass();
+        if (writer == null || messageClass != writerClass) {
+            writer = JSONMapperRegistry.compactWriterFor(messageClass).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            writerClass = messageClass;
+        }
+        writer.writeValue(generator, message);
+        generator.writeRaw('\n');
+        recordCount++;
+    }
+
+    /**
+     * @return number of records written
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -1,16 +1,40 @@
 package fi.fmi.avi.converter.json;
 
+import java.util.concurrent.Executor;
+
 import fi.fmi.avi.converter.AviMessageSpecificConverter;
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.converter.ConversionResult;
 import fi.fmi.avi.model.sigmet.SIGMETBulletin;
 import fi.fmi.avi.model.sigmet.immutable.SIGMETBulletinImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETImpl;
 
 /**
  * A simple wrapper to specialize the {@link AbstractJSONParser} for TAFBulletin.
  */
 public class SIGMETBulletinJSONParser extends AbstractJSONParser implements AviMessageSpecificConverter<String, SIGMETBulletin> {
 
+    private final Executor executor;
+
+    /**
+     * Creates a parser deserializing the whole bulletin on the calling thread.
+     */
+    public SIGMETBulletinJSONParser() {
+        this(null);
+    }
+
+    /**
+     * Creates a parser deserializing the contained messages in parallel on the given executor.
+     *
+     * @param executor
+     *         executor for deserializing the contained messages, or null to deserialize the whole bulletin on the calling thread
+     *
+     * @see AbstractJSONParser#doConvertBulletin(String, Class, Class, Class, java.util.function.BiFunction, Executor, ConversionHints)
+     */
+    public SIGMETBulletinJSONParser(final Executor executor) {
+        this.executor = executor;
+    }
+
     /**
      * Converts JSON to SIGMETBulletin Object.
      *
@@ -23,6 +47,10 @@ public class SIGMETBulletinJSONParser extends AbstractJSONParser implements AviM
      */
     @Override
     public ConversionResult<SIGMETBulletin> convertMessage(final String input, final ConversionHints hints) {
+        if (executor != null) {
+            return doConvertBulletin(input, SIGMETBulletin.class, SIGMETBulletinImpl.class, SIGMETImpl.class,
+                    (bulletin, messages) -> SIGMETBulletinImpl.immutableCopyOf(bulletin).toBuilder().addAllMessages(messages).build(), executor, hints);
+        }
         return doConvertMessage(input, SIGMETBulletin.class, SIGMETBulletinImpl.class, hints);
     }
 }
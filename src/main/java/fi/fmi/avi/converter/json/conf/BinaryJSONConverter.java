@@ -0,0 +1,433 @@
+package fi.fmi.avi.converter.json.conf;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import fi.fmi.avi.converter.ConversionSpecification;
+import fi.fmi.avi.converter.json.JSONBytesParser;
+import fi.fmi.avi.converter.json.JSONBytesSerializer;
+import fi.fmi.avi.converter.json.JSONDataFormat;
+import fi.fmi.avi.model.bulletin.GenericMeteorologicalBulletin;
+import fi.fmi.avi.model.bulletin.immutable.GenericMeteorologicalBulletinImpl;
+import fi.fmi.avi.model.metar.METAR;
+import fi.fmi.avi.model.metar.immutable.METARImpl;
+import fi.fmi.avi.model.sigmet.AIRMET;
+import fi.fmi.avi.model.sigmet.SIGMET;
+import fi.fmi.avi.model.sigmet.SIGMETBulletin;
+import fi.fmi.avi.model.sigmet.immutable.AIRMETImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETBulletinImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETImpl;
+import fi.fmi.avi.model.swx.amd79.SpaceWeatherAdvisoryAmd79;
+import fi.fmi.avi.model.swx.amd79.immutable.SpaceWeatherAdvisoryAmd79Impl;
+import fi.fmi.avi.model.swx.amd82.SpaceWeatherAdvisoryAmd82;
+import fi.fmi.avi.model.swx.amd82.immutable.SpaceWeatherAdvisoryAmd82Impl;
+import fi.fmi.avi.model.taf.TAF;
+import fi.fmi.avi.model.taf.TAFBulletin;
+import fi.fmi.avi.model.taf.immutable.TAFBulletinImpl;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
+
+/**
+ * Spring configuration for conversions between Java POJOs and the binary Smile and CBOR encodings of
+ * the fmi-avi-messageconverter JSON documents. The encodings use the same Jackson annotations as {@link JSONConverter},
+ * so the document structure is identical to the JSON documents.
+ */
+@SuppressWarnings("SpringFacetCodeInspection")
+@Configuration
+public class BinaryJSONConverter {
+
+    /**
+     * Pre-configured spec for {@link TAF} to fmi-avi-messageconverter JSON TAF document encoded in Smile.
+     */
+    public static final ConversionSpecification<TAF, byte[]> TAF_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(TAF.class, byte[].class,
+            null, "TAF, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAF document encoded in Smile to {@link TAF}.
+     */
+    public static final ConversionSpecification<byte[], TAF> SMILE_BYTES_TO_TAF_POJO = new ConversionSpecification<>(byte[].class, TAF.class,
+            "TAF, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link METAR} to fmi-avi-messageconverter JSON METAR document encoded in Smile.
+     */
+    public static final ConversionSpecification<METAR, byte[]> METAR_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(METAR.class, byte[].class,
+            null, "METAR, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON METAR document encoded in Smile to {@link METAR}.
+     */
+    public static final ConversionSpecification<byte[], METAR> SMILE_BYTES_TO_METAR_POJO = new ConversionSpecification<>(byte[].class, METAR.class,
+            "METAR, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link SIGMET} to fmi-avi-messageconverter JSON SIGMET document encoded in Smile.
+     */
+    public static final ConversionSpecification<SIGMET, byte[]> SIGMET_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(SIGMET.class, byte[].class,
+            null, "SIGMET, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMET document encoded in Smile to {@link SIGMET}.
+     */
+    public static final ConversionSpecification<byte[], SIGMET> SMILE_BYTES_TO_SIGMET_POJO = new ConversionSpecification<>(byte[].class, SIGMET.class,
+            "SIGMET, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link AIRMET} to fmi-avi-messageconverter JSON AIRMET document encoded in Smile.
+     */
+    public static final ConversionSpecification<AIRMET, byte[]> AIRMET_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(AIRMET.class, byte[].class,
+            null, "AIRMET, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON AIRMET document encoded in Smile to {@link AIRMET}.
+     */
+    public static final ConversionSpecification<byte[], AIRMET> SMILE_BYTES_TO_AIRMET_POJO = new ConversionSpecification<>(byte[].class, AIRMET.class,
+            "AIRMET, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link SpaceWeatherAdvisoryAmd79} to fmi-avi-messageconverter JSON SWX document encoded in Smile.
+     */
+    public static final ConversionSpecification<SpaceWeatherAdvisoryAmd79, byte[]> SWX_AMD79_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(SpaceWeatherAdvisoryAmd79.class, byte[].class,
+            null, "SWX, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document encoded in Smile to {@link SpaceWeatherAdvisoryAmd79}.
+     */
+    public static final ConversionSpecification<byte[], SpaceWeatherAdvisoryAmd79> SMILE_BYTES_TO_SWX_AMD79_POJO = new ConversionSpecification<>(byte[].class, SpaceWeatherAdvisoryAmd79.class,
+            "SWX, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link SpaceWeatherAdvisoryAmd82} to fmi-avi-messageconverter JSON SWX document encoded in Smile.
+     */
+    public static final ConversionSpecification<SpaceWeatherAdvisoryAmd82, byte[]> SWX_AMD82_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(SpaceWeatherAdvisoryAmd82.class, byte[].class,
+            null, "SWX, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document encoded in Smile to {@link SpaceWeatherAdvisoryAmd82}.
+     */
+    public static final ConversionSpecification<byte[], SpaceWeatherAdvisoryAmd82> SMILE_BYTES_TO_SWX_AMD82_POJO = new ConversionSpecification<>(byte[].class, SpaceWeatherAdvisoryAmd82.class,
+            "SWX, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link TAFBulletin} to fmi-avi-messageconverter JSON TAFBulletin document encoded in Smile.
+     */
+    public static final ConversionSpecification<TAFBulletin, byte[]> TAF_BULLETIN_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(TAFBulletin.class, byte[].class,
+            null, "TAFBulletin, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAFBulletin document encoded in Smile to {@link TAFBulletin}.
+     */
+    public static final ConversionSpecification<byte[], TAFBulletin> SMILE_BYTES_TO_TAF_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, TAFBulletin.class,
+            "TAFBulletin, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link SIGMETBulletin} to fmi-avi-messageconverter JSON SIGMETBulletin document encoded in Smile.
+     */
+    public static final ConversionSpecification<SIGMETBulletin, byte[]> SIGMET_BULLETIN_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(SIGMETBulletin.class, byte[].class,
+            null, "SIGMETBulletin, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMETBulletin document encoded in Smile to {@link SIGMETBulletin}.
+     */
+    public static final ConversionSpecification<byte[], SIGMETBulletin> SMILE_BYTES_TO_SIGMET_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, SIGMETBulletin.class,
+            "SIGMETBulletin, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link GenericMeteorologicalBulletin} to fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document encoded in Smile.
+     */
+    public static final ConversionSpecification<GenericMeteorologicalBulletin, byte[]> GENERIC_METEOROLOGICAL_BULLETIN_POJO_TO_SMILE_BYTES = new ConversionSpecification<>(GenericMeteorologicalBulletin.class, byte[].class,
+            null, "GenericMeteorologicalBulletin, fmi-avi-messageconverter Smile");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document encoded in Smile to {@link GenericMeteorologicalBulletin}.
+     */
+    public static final ConversionSpecification<byte[], GenericMeteorologicalBulletin> SMILE_BYTES_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, GenericMeteorologicalBulletin.class,
+            "GenericMeteorologicalBulletin, fmi-avi-messageconverter Smile", null);
+
+    /**
+     * Pre-configured spec for {@link TAF} to fmi-avi-messageconverter JSON TAF document encoded in CBOR.
+     */
+    public static final ConversionSpecification<TAF, byte[]> TAF_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(TAF.class, byte[].class,
+            null, "TAF, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAF document encoded in CBOR to {@link TAF}.
+     */
+    public static final ConversionSpecification<byte[], TAF> CBOR_BYTES_TO_TAF_POJO = new ConversionSpecification<>(byte[].class, TAF.class,
+            "TAF, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link METAR} to fmi-avi-messageconverter JSON METAR document encoded in CBOR.
+     */
+    public static final ConversionSpecification<METAR, byte[]> METAR_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(METAR.class, byte[].class,
+            null, "METAR, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON METAR document encoded in CBOR to {@link METAR}.
+     */
+    public static final ConversionSpecification<byte[], METAR> CBOR_BYTES_TO_METAR_POJO = new ConversionSpecification<>(byte[].class, METAR.class,
+            "METAR, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link SIGMET} to fmi-avi-messageconverter JSON SIGMET document encoded in CBOR.
+     */
+    public static final ConversionSpecification<SIGMET, byte[]> SIGMET_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(SIGMET.class, byte[].class,
+            null, "SIGMET, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMET document encoded in CBOR to {@link SIGMET}.
+     */
+    public static final ConversionSpecification<byte[], SIGMET> CBOR_BYTES_TO_SIGMET_POJO = new ConversionSpecification<>(byte[].class, SIGMET.class,
+            "SIGMET, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link AIRMET} to fmi-avi-messageconverter JSON AIRMET document encoded in CBOR.
+     */
+    public static final ConversionSpecification<AIRMET, byte[]> AIRMET_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(AIRMET.class, byte[].class,
+            null, "AIRMET, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON AIRMET document encoded in CBOR to {@link AIRMET}.
+     */
+    public static final ConversionSpecification<byte[], AIRMET> CBOR_BYTES_TO_AIRMET_POJO = new ConversionSpecification<>(byte[].class, AIRMET.class,
+            "AIRMET, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link SpaceWeatherAdvisoryAmd79} to fmi-avi-messageconverter JSON SWX document encoded in CBOR.
+     */
+    public static final ConversionSpecification<SpaceWeatherAdvisoryAmd79, byte[]> SWX_AMD79_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(SpaceWeatherAdvisoryAmd79.class, byte[].class,
+            null, "SWX, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document encoded in CBOR to {@link SpaceWeatherAdvisoryAmd79}.
+     */
+    public static final ConversionSpecification<byte[], SpaceWeatherAdvisoryAmd79> CBOR_BYTES_TO_SWX_AMD79_POJO = new ConversionSpecification<>(byte[].class, SpaceWeatherAdvisoryAmd79.class,
+            "SWX, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link SpaceWeatherAdvisoryAmd82} to fmi-avi-messageconverter JSON SWX document encoded in CBOR.
+     */
+    public static final ConversionSpecification<SpaceWeatherAdvisoryAmd82, byte[]> SWX_AMD82_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(SpaceWeatherAdvisoryAmd82.class, byte[].class,
+            null, "SWX, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document encoded in CBOR to {@link SpaceWeatherAdvisoryAmd82}.
+     */
+    public static final ConversionSpecification<byte[], SpaceWeatherAdvisoryAmd82> CBOR_BYTES_TO_SWX_AMD82_POJO = new ConversionSpecification<>(byte[].class, SpaceWeatherAdvisoryAmd82.class,
+            "SWX, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link TAFBulletin} to fmi-avi-messageconverter JSON TAFBulletin document encoded in CBOR.
+     */
+    public static final ConversionSpecification<TAFBulletin, byte[]> TAF_BULLETIN_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(TAFBulletin.class, byte[].class,
+            null, "TAFBulletin, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAFBulletin document encoded in CBOR to {@link TAFBulletin}.
+     */
+    public static final ConversionSpecification<byte[], TAFBulletin> CBOR_BYTES_TO_TAF_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, TAFBulletin.class,
+            "TAFBulletin, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link SIGMETBulletin} to fmi-avi-messageconverter JSON SIGMETBulletin document encoded in CBOR.
+     */
+    public static final ConversionSpecification<SIGMETBulletin, byte[]> SIGMET_BULLETIN_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(SIGMETBulletin.class, byte[].class,
+            null, "SIGMETBulletin, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMETBulletin document encoded in CBOR to {@link SIGMETBulletin}.
+     */
+    public static final ConversionSpecification<byte[], SIGMETBulletin> CBOR_BYTES_TO_SIGMET_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, SIGMETBulletin.class,
+            "SIGMETBulletin, fmi-avi-messageconverter CBOR", null);
+
+    /**
+     * Pre-configured spec for {@link GenericMeteorologicalBulletin} to fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document encoded in CBOR.
+     */
+    public static final ConversionSpecification<GenericMeteorologicalBulletin, byte[]> GENERIC_METEOROLOGICAL_BULLETIN_POJO_TO_CBOR_BYTES = new ConversionSpecification<>(GenericMeteorologicalBulletin.class, byte[].class,
+            null, "GenericMeteorologicalBulletin, fmi-avi-messageconverter CBOR");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document encoded in CBOR to {@link GenericMeteorologicalBulletin}.
+     */
+    public static final ConversionSpecification<byte[], GenericMeteorologicalBulletin> CBOR_BYTES_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, GenericMeteorologicalBulletin.class,
+            "GenericMeteorologicalBulletin, fmi-avi-messageconverter CBOR", null);
+
+    @Bean
+    public JSONBytesSerializer<TAF> tafSmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<TAF> tafSmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, TAF.class, TAFImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<METAR> metarSmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<METAR> metarSmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, METAR.class, METARImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SIGMET> sigmetSmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<SIGMET> sigmetSmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, SIGMET.class, SIGMETImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<AIRMET> airmetSmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<AIRMET> airmetSmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, AIRMET.class, AIRMETImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SpaceWeatherAdvisoryAmd79> swxAmd79SmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<SpaceWeatherAdvisoryAmd79> swxAmd79SmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, SpaceWeatherAdvisoryAmd79.class, SpaceWeatherAdvisoryAmd79Impl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SpaceWeatherAdvisoryAmd82> swxAmd82SmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<SpaceWeatherAdvisoryAmd82> swxAmd82SmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, SpaceWeatherAdvisoryAmd82.class, SpaceWeatherAdvisoryAmd82Impl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<TAFBulletin> tafBulletinSmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<TAFBulletin> tafBulletinSmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, TAFBulletin.class, TAFBulletinImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SIGMETBulletin> sigmetBulletinSmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<SIGMETBulletin> sigmetBulletinSmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, SIGMETBulletin.class, SIGMETBulletinImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<GenericMeteorologicalBulletin> genericBulletinSmileSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.SMILE);
+    }
+
+    @Bean
+    public JSONBytesParser<GenericMeteorologicalBulletin> genericBulletinSmileParser() {
+        return new JSONBytesParser<>(JSONDataFormat.SMILE, GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<TAF> tafCBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<TAF> tafCBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, TAF.class, TAFImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<METAR> metarCBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<METAR> metarCBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, METAR.class, METARImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SIGMET> sigmetCBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<SIGMET> sigmetCBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, SIGMET.class, SIGMETImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<AIRMET> airmetCBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<AIRMET> airmetCBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, AIRMET.class, AIRMETImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SpaceWeatherAdvisoryAmd79> swxAmd79CBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<SpaceWeatherAdvisoryAmd79> swxAmd79CBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, SpaceWeatherAdvisoryAmd79.class, SpaceWeatherAdvisoryAmd79Impl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SpaceWeatherAdvisoryAmd82> swxAmd82CBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<SpaceWeatherAdvisoryAmd82> swxAmd82CBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, SpaceWeatherAdvisoryAmd82.class, SpaceWeatherAdvisoryAmd82Impl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<TAFBulletin> tafBulletinCBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<TAFBulletin> tafBulletinCBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, TAFBulletin.class, TAFBulletinImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SIGMETBulletin> sigmetBulletinCBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<SIGMETBulletin> sigmetBulletinCBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, SIGMETBulletin.class, SIGMETBulletinImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<GenericMeteorologicalBulletin> genericBulletinCBORSerializer() {
+        return new JSONBytesSerializer<>(JSONDataFormat.CBOR);
+    }
+
+    @Bean
+    public JSONBytesParser<GenericMeteorologicalBulletin> genericBulletinCBORParser() {
+        return new JSONBytesParser<>(JSONDataFormat.CBOR, GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class);
+    }
+}
@@ -4,14 +4,23 @@ import fi.fmi.avi.converter.AviMessageSpecificConverter;
 import fi.fmi.avi.converter.ConversionSpecification;
 import fi.fmi.avi.converter.json.*;
 import fi.fmi.avi.model.bulletin.GenericMeteorologicalBulletin;
+import fi.fmi.avi.model.bulletin.immutable.GenericMeteorologicalBulletinImpl;
 import fi.fmi.avi.model.metar.METAR;
+import fi.fmi.avi.model.metar.immutable.METARImpl;
 import fi.fmi.avi.model.sigmet.AIRMET;
 import fi.fmi.avi.model.sigmet.SIGMET;
 import fi.fmi.avi.model.sigmet.SIGMETBulletin;
+import fi.fmi.avi.model.sigmet.immutable.AIRMETImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETBulletinImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETImpl;
 import fi.fmi.avi.model.swx.amd79.SpaceWeatherAdvisoryAmd79;
+import fi.fmi.avi.model.swx.amd79.immutable.SpaceWeatherAdvisoryAmd79Impl;
 import fi.fmi.avi.model.swx.amd82.SpaceWeatherAdvisoryAmd82;
+import fi.fmi.avi.model.swx.amd82.immutable.SpaceWeatherAdvisoryAmd82Impl;
 import fi.fmi.avi.model.taf.TAF;
 import fi.fmi.avi.model.taf.TAFBulletin;
+import fi.fmi.avi.model.taf.immutable.TAFBulletinImpl;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -133,6 +142,114 @@ public class JSONConverter {
     public static final ConversionSpecification<String, GenericMeteorologicalBulletin> JSON_STRING_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(String.class,
             GenericMeteorologicalBulletin.class, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON", null);
 
+    /**
+     * Pre-configured spec for {@link TAF} to UTF-8 encoded fmi-avi-messageconverter JSON TAF document bytes.
+     */
+    public static final ConversionSpecification<TAF, byte[]> TAF_POJO_TO_JSON_BYTES = new ConversionSpecification<>(TAF.class, byte[].class,
+            null, "TAF, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAF document bytes to {@link TAF}.
+     */
+    public static final ConversionSpecification<byte[], TAF> JSON_BYTES_TO_TAF_POJO = new ConversionSpecification<>(byte[].class, TAF.class,
+            "TAF, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link METAR} to UTF-8 encoded fmi-avi-messageconverter JSON METAR document bytes.
+     */
+    public static final ConversionSpecification<METAR, byte[]> METAR_POJO_TO_JSON_BYTES = new ConversionSpecification<>(METAR.class, byte[].class,
+            null, "METAR, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON METAR document bytes to {@link METAR}.
+     */
+    public static final ConversionSpecification<byte[], METAR> JSON_BYTES_TO_METAR_POJO = new ConversionSpecification<>(byte[].class, METAR.class,
+            "METAR, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link SIGMET} to UTF-8 encoded fmi-avi-messageconverter JSON SIGMET document bytes.
+     */
+    public static final ConversionSpecification<SIGMET, byte[]> SIGMET_POJO_TO_JSON_BYTES = new ConversionSpecification<>(SIGMET.class, byte[].class,
+            null, "SIGMET, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMET document bytes to {@link SIGMET}.
+     */
+    public static final ConversionSpecification<byte[], SIGMET> JSON_BYTES_TO_SIGMET_POJO = new ConversionSpecification<>(byte[].class, SIGMET.class,
+            "SIGMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link AIRMET} to UTF-8 encoded fmi-avi-messageconverter JSON AIRMET document bytes.
+     */
+    public static final ConversionSpecification<AIRMET, byte[]> AIRMET_POJO_TO_JSON_BYTES = new ConversionSpecification<>(AIRMET.class, byte[].class,
+            null, "AIRMET, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON AIRMET document bytes to {@link AIRMET}.
+     */
+    public static final ConversionSpecification<byte[], AIRMET> JSON_BYTES_TO_AIRMET_POJO = new ConversionSpecification<>(byte[].class, AIRMET.class,
+            "AIRMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link SpaceWeatherAdvisoryAmd79} to UTF-8 encoded fmi-avi-messageconverter JSON SWX document bytes.
+     */
+    public static final ConversionSpecification<SpaceWeatherAdvisoryAmd79, byte[]> SWX_AMD79_POJO_TO_JSON_BYTES = new ConversionSpecification<>(SpaceWeatherAdvisoryAmd79.class, byte[].class,
+            null, "SWX, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document bytes to {@link SpaceWeatherAdvisoryAmd79}.
+     */
+    public static final ConversionSpecification<byte[], SpaceWeatherAdvisoryAmd79> JSON_BYTES_TO_SWX_AMD79_POJO = new ConversionSpecification<>(byte[].class, SpaceWeatherAdvisoryAmd79.class,
+            "SWX, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link SpaceWeatherAdvisoryAmd82} to UTF-8 encoded fmi-avi-messageconverter JSON SWX document bytes.
+     */
+    public static final ConversionSpecification<SpaceWeatherAdvisoryAmd82, byte[]> SWX_AMD82_POJO_TO_JSON_BYTES = new ConversionSpecification<>(SpaceWeatherAdvisoryAmd82.class, byte[].class,
+            null, "SWX, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document bytes to {@link SpaceWeatherAdvisoryAmd82}.
+     */
+    public static final ConversionSpecification<byte[], SpaceWeatherAdvisoryAmd82> JSON_BYTES_TO_SWX_AMD82_POJO = new ConversionSpecification<>(byte[].class, SpaceWeatherAdvisoryAmd82.class,
+            "SWX, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link TAFBulletin} to UTF-8 encoded fmi-avi-messageconverter JSON TAFBulletin document bytes.
+     */
+    public static final ConversionSpecification<TAFBulletin, byte[]> TAF_BULLETIN_POJO_TO_JSON_BYTES = new ConversionSpecification<>(TAFBulletin.class, byte[].class,
+            null, "TAFBulletin, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAFBulletin document bytes to {@link TAFBulletin}.
+     */
+    public static final ConversionSpecification<byte[], TAFBulletin> JSON_BYTES_TO_TAF_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, TAFBulletin.class,
+            "TAFBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link SIGMETBulletin} to UTF-8 encoded fmi-avi-messageconverter JSON SIGMETBulletin document bytes.
+     */
+    public static final ConversionSpecification<SIGMETBulletin, byte[]> SIGMET_BULLETIN_POJO_TO_JSON_BYTES = new ConversionSpecification<>(SIGMETBulletin.class, byte[].class,
+            null, "SIGMETBulletin, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMETBulletin document bytes to {@link SIGMETBulletin}.
+     */
+    public static final ConversionSpecification<byte[], SIGMETBulletin> JSON_BYTES_TO_SIGMET_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, SIGMETBulletin.class,
+            "SIGMETBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for {@link GenericMeteorologicalBulletin} to UTF-8 encoded fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document bytes.
+     */
+    public static final ConversionSpecification<GenericMeteorologicalBulletin, byte[]> GENERIC_METEOROLOGICAL_BULLETIN_POJO_TO_JSON_BYTES = new ConversionSpecification<>(GenericMeteorologicalBulletin.class, byte[].class,
+            null, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document bytes to {@link GenericMeteorologicalBulletin}.
+     */
+    public static final ConversionSpecification<byte[], GenericMeteorologicalBulletin> JSON_BYTES_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(byte[].class, GenericMeteorologicalBulletin.class,
+            "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON", null);
+
     @Bean
     public AviMessageSpecificConverter<METAR, String> metarJSONSerializer() {
         return new METARJSONSerializer();
@@ -222,4 +339,93 @@ public class JSONConverter {
         return new AIRMETJSONSerializer();
     }
 
+    @Bean
+    public JSONBytesSerializer<TAF> tafJSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<TAF> tafJSONBytesParser() {
+        return new JSONBytesParser<>(TAF.class, TAFImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<METAR> metarJSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<METAR> metarJSONBytesParser() {
+        return new JSONBytesParser<>(METAR.class, METARImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SIGMET> sigmetJSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<SIGMET> sigmetJSONBytesParser() {
+        return new JSONBytesParser<>(SIGMET.class, SIGMETImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<AIRMET> airmetJSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<AIRMET> airmetJSONBytesParser() {
+        return new JSONBytesParser<>(AIRMET.class, AIRMETImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SpaceWeatherAdvisoryAmd79> swxAmd79JSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<SpaceWeatherAdvisoryAmd79> swxAmd79JSONBytesParser() {
+        return new JSONBytesParser<>(SpaceWeatherAdvisoryAmd79.class, SpaceWeatherAdvisoryAmd79Impl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SpaceWeatherAdvisoryAmd82> swxAmd82JSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<SpaceWeatherAdvisoryAmd82> swxAmd82JSONBytesParser() {
+        return new JSONBytesParser<>(SpaceWeatherAdvisoryAmd82.class, SpaceWeatherAdvisoryAmd82Impl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<TAFBulletin> tafBulletinJSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<TAFBulletin> tafBulletinJSONBytesParser() {
+        return new JSONBytesParser<>(TAFBulletin.class, TAFBulletinImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<SIGMETBulletin> sigmetBulletinJSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<SIGMETBulletin> sigmetBulletinJSONBytesParser() {
+        return new JSONBytesParser<>(SIGMETBulletin.class, SIGMETBulletinImpl.class);
+    }
+
+    @Bean
+    public JSONBytesSerializer<GenericMeteorologicalBulletin> genericBulletinJSONBytesSerializer() {
+        return new JSONBytesSerializer<>();
+    }
+
+    @Bean
+    public JSONBytesParser<GenericMeteorologicalBulletin> genericBulletinJSONBytesParser() {
+        return new JSONBytesParser<>(GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class);
+    }
 }
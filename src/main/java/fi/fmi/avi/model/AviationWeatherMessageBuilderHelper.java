@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 
+import fi.fmi.avi.model.immutable.ValueEquality;
+
 public final class AviationWeatherMessageBuilderHelper {
     private AviationWeatherMessageBuilderHelper() {
         throw new AssertionError();
@@ -85,4 +87,35 @@ public final class AviationWeatherMessageBuilderHelper {
         setIssueTime.accept(builder, value.getIssueTime());
         setReportStatus.accept(builder, value.getReportStatus());
     }
+
+    /**
+     * Returns an equality over properties declared in {@link AviationWeatherMessage}, to be extended with properties of the message type using
+     * {@link ValueEquality#and(java.util.function.Function[])}.
+     *
+     * <p>
+     * This method exists for completeness safety in the same way as {@code copyFrom}. Whenever the {@link AviationWeatherMessage} interface changes,
+     * applying changes here will apply them to the equality of all messages using this method.
+     * </p>
+     *
+     * @param <T>
+     *         type of messages
+     *
+     * @return equality over the common message properties
+     */
+    public static <T extends AviationWeatherMessage> ValueEquality<T> equality() {
+        return ValueEquality.of(//
+                AviationWeatherMessage::getReportStatus, //
+                AviationWeatherMessage::getIssueTime, //
+                AviationWeatherMessage::getRemarks, //
+                AviationWeatherMessage::getPermissibleUsage, //
+                AviationWeatherMessage::getPermissibleUsageReason, //
+                AviationWeatherMessage::getPermissibleUsageSupplementary, //
+                AviationWeatherMessage::isTranslated, //
+                AviationWeatherMessage::getTranslatedBulletinID, //
+                AviationWeatherMessage::getTranslatedBulletinReceptionTime, //
+                AviationWeatherMessage::getTranslationCentreDesignator, //
+                AviationWeatherMessage::getTranslationCentreName, //
+                AviationWeatherMessage::getTranslationTime, //
+                AviationWeatherMessage::getTranslatedTAC);
+    }
 }
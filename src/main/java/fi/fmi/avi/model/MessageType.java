@@ -2,6 +2,11 @@ package fi.fmi.avi.model;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -30,6 +35,8 @@ public class MessageType implements Serializable {
     public static final MessageType GENERIC = new MessageType("GENERIC");
 
     private static final long serialVersionUID = 8491210385030779165L;
+    private static final Map<String, MessageType> BUILT_IN = Collections.unmodifiableMap(Stream.of(TAF, METAR, SPECI, SIGMET, AIRMET, TROPICAL_CYCLONE_ADVISORY,
+            VOLCANIC_ASH_ADVISORY, SPACE_WEATHER_ADVISORY, BULLETIN, SPECIAL_AIR_REPORT, GENERIC).collect(Collectors.toMap(MessageType::name, Function.identity())));
 
     private final String name;
 
@@ -73,7 +80,8 @@ public class MessageType implements Serializable {
         @Override
         public MessageType deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
             final String value = ((JsonNode) jsonParser.getCodec().readTree(jsonParser)).asText();
-            return new MessageType(value);
+            final MessageType builtIn = BUILT_IN.get(value);
+            return builtIn != null ? builtIn : new MessageType(value);
         }
     }
 
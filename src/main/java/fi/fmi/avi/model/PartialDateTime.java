@@ -4,11 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.time.DateTimeException;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
 import java.time.YearMonth;
+import java.time.Year;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
@@ -23,10 +25,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
-import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -73,12 +72,17 @@ public final class PartialDateTime implements Serializable {
     private static final int FIELD_SIZE_IN_BITS = 7;
     private static final int FIELD_MASK = ~(-1 << FIELD_SIZE_IN_BITS);
     private static final int EMPTY_FIELD_VALUE = FIELD_MASK;
-    private static final Pattern PARTIAL_TIME_STRING_PATTERN = Pattern.compile(
-            "^--(?<DAY>[0-9]{1,2})?T(?<HOUR>[0-9]{1,2})?:(?<MINUTE>[0-9]{1,2})?:?(?<ZONE>.*)?$");
     /**
      * All fields are initially {@link #EMPTY_FIELD_VALUE}.
      */
     private static final int INITIAL_FIELD_VALUES = ~(-1 << PartialField.VALUES.length * FIELD_SIZE_IN_BITS);
+    private static final long NO_CANDIDATE = Long.MIN_VALUE;
+    private static final long SECONDS_PER_MINUTE = 60L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MINUTES_PER_HOUR = 60L;
+    private static final long MINUTES_PER_DAY = 24L * MINUTES_PER_HOUR;
+    private static final long DAYS_PER_ERA = 146097L;
+    private static final long DAYS_0000_03_01_TO_1970_01_01 = 719468L;
 
     @Nullable
     private final ZoneId zone;
@@ -89,6 +93,14 @@ public final class PartialDateTime implements Serializable {
         this.zone = zone;
     }
 
+    /**
+     * Returns an instance of given field values and zone, sharing the canonical instance for common values.
+     */
+    private static PartialDateTime valueOf(final int fieldValues, @Nullable final ZoneId zone) {
+        final PartialDateTime flyweight = Flyweights.get(fieldValues, zone);
+        return flyweight != null ? flyweight : new PartialDateTime(fieldValues, zone);
+    }
+
     /**
      * Obtain an instance of optional values.
      *
@@ -117,7 +129,7 @@ public final class PartialDateTime implements Serializable {
         if (minute >= 0) {
             fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
         }
-        return new PartialDateTime(fieldValues, zone);
+        return valueOf(fieldValues, zone);
     }
 
     /**
@@ -143,7 +155,7 @@ public final class PartialDateTime implements Serializable {
         fieldValues = PartialField.DAY.withRawFieldValue(fieldValues, PartialField.DAY.checkValueWithinValidRange(day));
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
         fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
-        return new PartialDateTime(fieldValues, zone);
+        return valueOf(fieldValues, zone);
     }
 
     /**
@@ -200,7 +212,7 @@ public final class PartialDateTime implements Serializable {
         fieldValues = PartialField.DAY.withRawFieldValue(fieldValues, PartialField.DAY.checkValueWithinValidRange(day));
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
         fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
-        return new PartialDateTime(fieldValues, null);
+        return valueOf(fieldValues, null);
     }
 
     /**
@@ -237,7 +249,7 @@ public final class PartialDateTime implements Serializable {
         int fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.DAY.withRawFieldValue(fieldValues, PartialField.DAY.checkValueWithinValidRange(day));
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
-        return new PartialDateTime(fieldValues, null);
+        return valueOf(fieldValues, null);
     }
 
     /**
@@ -273,7 +285,7 @@ public final class PartialDateTime implements Serializable {
         int fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
         fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
-        return new PartialDateTime(fieldValues, null);
+        return valueOf(fieldValues, null);
     }
 
     /**
@@ -306,7 +318,7 @@ public final class PartialDateTime implements Serializable {
     public static PartialDateTime ofHour(final int hour) {
         int fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
-        return new PartialDateTime(fieldValues, null);
+        return valueOf(fieldValues, null);
     }
 
     /**
@@ -341,7 +353,7 @@ public final class PartialDateTime implements Serializable {
     public static PartialDateTime of(final PartialField field, final int value) {
         requireNonNull(field, "field");
         field.checkValueWithinValidRange(value);
-        return new PartialDateTime(field.withRawFieldValue(INITIAL_FIELD_VALUES, value), null);
+        return valueOf(field.withRawFieldValue(INITIAL_FIELD_VALUES, value), null);
     }
 
     /**
@@ -372,7 +384,7 @@ public final class PartialDateTime implements Serializable {
         if (values.length > i) {
             throw new DateTimeException(String.format("Too many values: %d; expected %d", values.length, i));
         }
-        return new PartialDateTime(fieldValues, null);
+        return valueOf(fieldValues, null);
     }
 
     /**
@@ -406,7 +418,7 @@ public final class PartialDateTime implements Serializable {
         }
         @Nullable
         final ZoneId zone = useZone ? dateTime.getZone() : null;
-        return new PartialDateTime(fieldValues, zone);
+        return valueOf(fieldValues, zone);
     }
 
     /**
@@ -423,31 +435,72 @@ public final class PartialDateTime implements Serializable {
      */
     public static PartialDateTime parse(final String partialDateTimeString) {
         requireNonNull(partialDateTimeString, "partialDateTimeString");
-        final Matcher matcher = PARTIAL_TIME_STRING_PATTERN.matcher(partialDateTimeString);
-        if (!matcher.matches()) {
-            throw new DateTimeParseException("Invalid partialDateTimeString '" + partialDateTimeString + "'", partialDateTimeString, 0);
-        }
+        return parse(partialDateTimeString, 0, partialDateTimeString.length());
+    }
+
+    /**
+     * Obtain an instance from a range of characters.
+     * See {@link #toString()} for description of string format.
+     *
+     * <p>
+     * The digits are parsed in place, and for common values no objects are allocated.
+     * </p>
+     *
+     * @param text
+     *         text containing the string to parse
+     * @param start
+     *         index of the first character to parse
+     * @param end
+     *         index after the last character to parse
+     *
+     * @return instance from string
+     *
+     * @throws DateTimeParseException
+     *         if string cannot be parsed
+     * @throws IndexOutOfBoundsException
+     *         if {@code start} or {@code end} is out of bounds
+     */
+    public static PartialDateTime parse(final CharSequence text, final int start, final int end) {
+        requireNonNull(text, "text");
+        checkBounds(text, start, end);
 
         int fieldValues = INITIAL_FIELD_VALUES;
         @Nullable
         final ZoneId zone;
 
-        try {
-            for (final PartialField field : PartialField.VALUES) {
-                @Nullable
-                final String fieldValueString = matcher.group(field.name());
-                if (fieldValueString != null) {
-                    fieldValues = field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(Integer.parseInt(fieldValueString)));
+        int index = start;
+        if (end - index < 2 || text.charAt(index) != '-' || text.charAt(index + 1) != '-') {
+            throw invalidPartialDateTimeString(text, start, end, null);
+        }
+        index += 2;
+        for (final PartialField field : PartialField.VALUES) {
+            final int digitsEnd = asciiDigitsEnd(text, index, Math.min(index + 2, end));
+            if (digitsEnd > index) {
+                fieldValues = field.withRawFieldValue(fieldValues, parseDigits(text, index, digitsEnd));
+                index = digitsEnd;
+            }
+            if (field == PartialField.MINUTE) {
+                if (index < end && text.charAt(index) == ':') {
+                    index++;
                 }
+            } else if (index < end && text.charAt(index) == (field == PartialField.DAY ? 'T' : ':')) {
+                index++;
+            } else {
+                throw invalidPartialDateTimeString(text, start, end, null);
             }
-            zone = Optional.ofNullable(matcher.group("ZONE"))//
-                    .filter(offsetId -> !offsetId.isEmpty())//
-                    .map(PartialDateTime::parseZone)//
-                    .orElse(null);
+        }
+        try {
+            zone = index < end ? parseZone(text, index, end) : null;
         } catch (final RuntimeException exception) {
-            throw new DateTimeParseException("Invalid partialDateTimeString '" + partialDateTimeString + "'", partialDateTimeString, 0, exception);
+            throw invalidPartialDateTimeString(text, start, end, exception);
         }
-        return new PartialDateTime(fieldValues, zone);
+        return valueOf(fieldValues, zone);
+    }
+
+    private static DateTimeParseException invalidPartialDateTimeString(final CharSequence text, final int start, final int end,
+            @Nullable final RuntimeException cause) {
+        final String partialDateTimeString = text.subSequence(start, end).toString();
+        return new DateTimeParseException("Invalid partialDateTimeString '" + partialDateTimeString + "'", partialDateTimeString, 0, cause);
     }
 
     /**
@@ -471,46 +524,76 @@ public final class PartialDateTime implements Serializable {
      */
     public static PartialDateTime parseTACString(final String tacString, final PartialField precision) {
         requireNonNull(tacString, "tacString");
+        return parseTACString(tacString, 0, tacString.length(), precision);
+    }
+
+    /**
+     * Obtain an instance from a range of characters in TAC format.
+     * See {@link #parseTACString(String, PartialField)} for description of parsing.
+     *
+     * <p>
+     * The digits are parsed in place, and for common values, such as {@code 1906} or {@code 190815Z}, no objects are allocated.
+     * </p>
+     *
+     * @param text
+     *         text containing the TAC string to parse
+     * @param start
+     *         index of the first character to parse
+     * @param end
+     *         index after the last character to parse
+     * @param precision
+     *         least significant field hint
+     *
+     * @return instance from TAC string
+     *
+     * @throws DateTimeParseException
+     *         if string cannot be parsed
+     * @throws IndexOutOfBoundsException
+     *         if {@code start} or {@code end} is out of bounds
+     */
+    public static PartialDateTime parseTACString(final CharSequence text, final int start, final int end, final PartialField precision) {
+        requireNonNull(text, "text");
         requireNonNull(precision, "precision");
+        checkBounds(text, start, end);
 
         int fieldValues = INITIAL_FIELD_VALUES;
         @Nullable
         final ZoneId zone;
 
-        int tacStringIndex = 0;
+        int index = start;
         try {
-            final int[] parsedFieldValues = new int[PartialField.VALUES.length];
-            int parsedFieldValuesIndex = 0;
-            while (tacStringIndex < tacString.length() //
-                    && Character.isDigit(tacString.charAt(tacStringIndex)) //
-                    && Character.isDigit(tacString.charAt(tacStringIndex + 1))) {
-                try {
-                    parsedFieldValues[parsedFieldValuesIndex] = Integer.parseInt(tacString.substring(tacStringIndex, tacStringIndex + 2));
-                } catch (final IndexOutOfBoundsException exception) {
-                    throw new DateTimeParseException("Too many fields", tacString, tacStringIndex, exception);
+            int parsedFieldsSize = 0;
+            int parsedFieldValues = 0;
+            while (index < end && Character.isDigit(text.charAt(index))) {
+                if (index + 1 >= end) {
+                    throw new IllegalArgumentException("Odd number of digits");
+                } else if (!Character.isDigit(text.charAt(index + 1))) {
+                    break;
                 }
-                tacStringIndex += 2;
-                parsedFieldValuesIndex += 1;
+                if (parsedFieldsSize == PartialField.VALUES.length) {
+                    throw new IllegalArgumentException("Too many fields");
+                }
+                parsedFieldValues = parsedFieldValues << FIELD_SIZE_IN_BITS | parseDigits(text, index, index + 2);
+                parsedFieldsSize++;
+                index += 2;
             }
-            final int parsedFieldsSize = parsedFieldValuesIndex;
 
-            final String zoneId = tacString.substring(tacStringIndex);
-            zone = !zoneId.isEmpty() ? parseZone(zoneId) : null;
+            zone = index < end ? parseZone(text, index, end) : null;
 
             if (parsedFieldsSize > 0) {
-                final PartialField firstField = PartialField.VALUES[Math.max(precision.ordinal() - (parsedFieldsSize - 1), 0)];
-                final PartialField lastField = PartialField.VALUES[Math.max(precision.ordinal(), parsedFieldsSize - 1)];
-                final PartialField[] fields = EnumSet.range(firstField, lastField).toArray(new PartialField[0]);
-                for (int i = 0; i < fields.length; i++) {
-                    tacStringIndex = i * 2;
-                    final PartialField field = fields[i];
-                    fieldValues = field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(parsedFieldValues[i]));
+                final int firstFieldOrdinal = Math.max(precision.ordinal() - (parsedFieldsSize - 1), 0);
+                for (int i = 0; i < parsedFieldsSize; i++) {
+                    index = start + i * 2;
+                    final PartialField field = PartialField.VALUES[firstFieldOrdinal + i];
+                    final int value = parsedFieldValues >> (parsedFieldsSize - 1 - i) * FIELD_SIZE_IN_BITS & FIELD_MASK;
+                    fieldValues = field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(value));
                 }
             }
 
-            return new PartialDateTime(fieldValues, zone);
+            return valueOf(fieldValues, zone);
         } catch (final RuntimeException exception) {
-            throw new DateTimeParseException("Invalid tacString: '" + tacString + "'", tacString, tacStringIndex, exception);
+            final String tacString = text.subSequence(start, end).toString();
+            throw new DateTimeParseException("Invalid tacString: '" + tacString + "'", tacString, index - start, exception);
         }
     }
 
@@ -535,13 +618,44 @@ public final class PartialDateTime implements Serializable {
      */
     public static PartialDateTime parseTACStringStrict(final String tacString, final Set<PartialField> hasFields, final boolean hasZone) {
         requireNonNull(tacString, "tacString");
+        return parseTACStringStrict(tacString, 0, tacString.length(), hasFields, hasZone);
+    }
+
+    /**
+     * Obtain an instance from a range of characters in TAC format using strict parsing.
+     * See {@link #parseTACStringStrict(String, Set, boolean)} for description of parsing.
+     *
+     * @param text
+     *         text containing the TAC string to parse
+     * @param start
+     *         index of the first character to parse
+     * @param end
+     *         index after the last character to parse
+     * @param hasFields
+     *         exact fields to parse
+     * @param hasZone
+     *         {@code true} if TAC string is expected to contain zone, {@code false} otherwise
+     *
+     * @return instance from TAC string
+     *
+     * @throws DateTimeParseException
+     *         if string cannot be parsed
+     * @throws DateTimeException
+     *         if {@code hasFields} is <a href="#continuous-fields">uncontinuous</a>
+     * @throws IndexOutOfBoundsException
+     *         if {@code start} or {@code end} is out of bounds
+     */
+    public static PartialDateTime parseTACStringStrict(final CharSequence text, final int start, final int end, final Set<PartialField> hasFields,
+            final boolean hasZone) {
+        requireNonNull(text, "text");
         requireNonNull(hasFields, "hasFields");
+        checkBounds(text, start, end);
 
         int fieldValues = INITIAL_FIELD_VALUES;
         @Nullable
         final ZoneId zone;
 
-        int index = 0;
+        int index = start;
         try {
             if (!hasContinuousEnums(hasFields)) {
                 throw new DateTimeException("Uncontinuous fields: " + hasFields);
@@ -549,29 +663,67 @@ public final class PartialDateTime implements Serializable {
 
             for (final PartialField field : PartialField.VALUES) {
                 if (hasFields.contains(field)) {
-                    fieldValues = field.withRawFieldValue(fieldValues,
-                            field.checkValueWithinValidRange(Integer.parseInt(tacString.substring(index, index + 2))));
+                    if (index + 2 > end || !Character.isDigit(text.charAt(index)) || !Character.isDigit(text.charAt(index + 1))) {
+                        throw new IllegalArgumentException("Missing two-digit value of " + field);
+                    }
+                    fieldValues = field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(parseDigits(text, index, index + 2)));
                     index += 2;
                 } else {
                     fieldValues = field.withRawFieldValue(fieldValues, EMPTY_FIELD_VALUE);
                 }
             }
-            final String zoneId = tacString.substring(index);
-            if (hasZone && !zoneId.isEmpty()) {
-                zone = parseZone(zoneId);
+            if (hasZone && index < end) {
+                zone = parseZone(text, index, end);
             } else if (hasZone) {
-                throw new DateTimeParseException(tacString + " is missing zone", tacString, index);
-            } else if (!zoneId.isEmpty()) {
-                throw new DateTimeParseException(tacString + " has unexpected zone: " + zoneId, tacString, index);
+                throw new DateTimeParseException(text.subSequence(start, end) + " is missing zone", text.subSequence(start, end), index - start);
+            } else if (index < end) {
+                throw new DateTimeParseException(text.subSequence(start, end) + " has unexpected zone: " + text.subSequence(index, end),
+                        text.subSequence(start, end), index - start);
             } else {
                 zone = null;
             }
         } catch (final DateTimeParseException exception) {
             throw exception;
         } catch (final RuntimeException exception) {
-            throw new DateTimeParseException("Invalid tacString: '" + tacString + "'", tacString, index, exception);
+            final String tacString = text.subSequence(start, end).toString();
+            throw new DateTimeParseException("Invalid tacString: '" + tacString + "'", tacString, index - start, exception);
+        }
+        return valueOf(fieldValues, zone);
+    }
+
+    private static void checkBounds(final CharSequence text, final int start, final int end) {
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + text.length());
+        }
+    }
+
+    /**
+     * Returns the end index of the ASCII digits starting at {@code start}, reading at most until {@code limit}.
+     */
+    private static int asciiDigitsEnd(final CharSequence text, final int start, final int limit) {
+        int index = start;
+        while (index < limit && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+            index++;
         }
-        return new PartialDateTime(fieldValues, zone);
+        return index;
+    }
+
+    /**
+     * Parses the decimal digits between {@code start} and {@code end}, which must all be {@link Character#isDigit(char) digits}.
+     */
+    private static int parseDigits(final CharSequence text, final int start, final int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + Character.digit(text.charAt(i), 10);
+        }
+        return value;
+    }
+
+    private static ZoneId parseZone(final CharSequence text, final int start, final int end) {
+        if (end - start == 1 && text.charAt(start) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        return parseZone(text.subSequence(start, end).toString());
     }
 
     private static ZoneId parseZone(final String zoneId) {
@@ -639,10 +791,6 @@ public final class PartialDateTime implements Serializable {
         }
     }
 
-    private static IntStream intStreamRangeClosedDecreasing(final int startInclusive, final int endInclusive) {
-        return IntStream.rangeClosed(-startInclusive, -endInclusive).map(n -> -n);
-    }
-
     /**
      * Returns a set of fields this PartialDateTime contains.
      *
@@ -694,7 +842,7 @@ public final class PartialDateTime implements Serializable {
     public PartialDateTime with(final PartialField field, final int value) {
         requireNonNull(field, "field");
         final int newFieldValues = field.withRawFieldValue(this.fieldValues, field.checkValueWithinValidRange(value));
-        return newFieldValues == fieldValues ? this : new PartialDateTime(newFieldValues, zone);
+        return newFieldValues == fieldValues ? this : valueOf(newFieldValues, zone);
     }
 
     /**
@@ -711,7 +859,7 @@ public final class PartialDateTime implements Serializable {
     public PartialDateTime without(final PartialField field) {
         requireNonNull(field, "field");
         final int newFieldValues = field.withRawFieldValue(this.fieldValues, EMPTY_FIELD_VALUE);
-        return newFieldValues == fieldValues ? this : new PartialDateTime(newFieldValues, zone);
+        return newFieldValues == fieldValues ? this : valueOf(newFieldValues, zone);
     }
 
     /**
@@ -840,7 +988,7 @@ public final class PartialDateTime implements Serializable {
      * @return a {@code PartialDateTime} based on this partial date-time with the requested zone
      */
     public PartialDateTime withZone(final ZoneId zone) {
-        return new PartialDateTime(fieldValues, requireNonNull(zone, "zone"));
+        return valueOf(fieldValues, requireNonNull(zone, "zone"));
     }
 
     /**
@@ -849,7 +997,7 @@ public final class PartialDateTime implements Serializable {
      * @return a {@code PartialDateTime} based on this object with zone field unset
      */
     public PartialDateTime withoutZone() {
-        return new PartialDateTime(fieldValues, null);
+        return valueOf(fieldValues, null);
     }
 
     /**
@@ -926,7 +1074,7 @@ public final class PartialDateTime implements Serializable {
             newFieldValues = PartialField.DAY.withRawFieldValue(newFieldValues, shiftedDay);
         }
 
-        return new PartialDateTime(newFieldValues, zone);
+        return valueOf(newFieldValues, zone);
     }
 
     /**
@@ -943,7 +1091,7 @@ public final class PartialDateTime implements Serializable {
      */
     public ZonedDateTime toZonedDateTime(final YearMonth issueYearMonth) {
         requireNonNull(issueYearMonth, "issueYearMonth");
-        return toLocalDateTime(issueYearMonth).atZone(getZone().orElse(ZoneId.of("Z")));
+        return toLocalDateTime(issueYearMonth).atZone((zone == null ? ZoneOffset.UTC : zone));
     }
 
     private LocalDateTime toLocalDateTime(final YearMonth issueYearMonth) {
@@ -977,7 +1125,7 @@ public final class PartialDateTime implements Serializable {
      */
     public ZonedDateTime toZonedDateTime(final LocalDate issueDate) {
         requireNonNull(issueDate, "issueDate");
-        return toLocalDateTime(issueDate).atZone(getZone().orElse(ZoneId.of("Z")));
+        return toLocalDateTime(issueDate).atZone((zone == null ? ZoneOffset.UTC : zone));
     }
 
     private LocalDateTime toLocalDateTime(final LocalDate issueDate) {
@@ -1002,26 +1150,6 @@ public final class PartialDateTime implements Serializable {
         }
     }
 
-    private LocalDateTime toLocalDateTime(final LocalDateTime referenceTime) {
-        if (isMidnight24h()) {
-            return LocalDateTime.of(//
-                    referenceTime.getYear(), //
-                    referenceTime.getMonth(), //
-                    getDay().orElse(referenceTime.getDayOfMonth()), //
-                    0, //
-                    0) //
-                    .plusDays(1L);
-        } else {
-            final int precision = getPrecisionOrdinalOr(PartialField.VALUES.length);
-            return LocalDateTime.of(//
-                    referenceTime.getYear(), //
-                    referenceTime.getMonth(), //
-                    getDay().orElse(precision > PartialField.DAY.ordinal() ? referenceTime.getDayOfMonth() : 1), //
-                    getHour().orElse(precision > PartialField.HOUR.ordinal() ? referenceTime.getHour() : 0), //
-                    getMinute().orElse(precision > PartialField.MINUTE.ordinal() ? referenceTime.getMinute() : 0));
-        }
-    }
-
     private PartialField getPrecisionFieldOr(final PartialField fieldOnEmptyPartial) {
         return PartialField.VALUES[getPrecisionOrdinalOr(fieldOnEmptyPartial.ordinal())];
     }
@@ -1161,7 +1289,7 @@ public final class PartialDateTime implements Serializable {
         requireNonNull(referenceTime, "referenceTime");
         requireNonNull(condition, "condition");
 
-        final ZoneId targetZone = getZone().orElse(referenceTime.getZone());
+        final ZoneId targetZone = zone == null ? referenceTime.getZone() : zone;
         final boolean strictCondition = condition.isStrictApplicable();
         try {
             return toLocalDateTime(referenceTime.withZoneSameInstant(targetZone).toLocalDateTime(), condition, strictCondition, LocalDateTime.MIN,
@@ -1225,7 +1353,7 @@ public final class PartialDateTime implements Serializable {
         requireNonNull(rangeEndExclusive, "rangeEndExclusive");
         DateTimeRanges.checkIsValid(rangeStartInclusive, rangeEndExclusive);
 
-        final ZoneId targetZone = getZone().orElse(referenceTime.getZone());
+        final ZoneId targetZone = zone == null ? referenceTime.getZone() : zone;
         try {
             return toLocalDateTime(referenceTime.withZoneSameInstant(targetZone).toLocalDateTime(), condition, strictCondition,
                     toLocalDateTimeInZoneOr(rangeStartInclusive, targetZone, LocalDateTime.MIN),
@@ -1238,59 +1366,190 @@ public final class PartialDateTime implements Serializable {
         }
     }
 
+    /**
+     * Completes this partial date-time in the context of a local reference time.
+     *
+     * <p>
+     * The candidates are computed as local epoch minutes directly from the packed field values and the calendar fields of the reference time, and
+     * compared to the reference as epoch seconds. Only the result is materialized as a {@code LocalDateTime}.
+     * </p>
+     */
     private LocalDateTime toLocalDateTime(final LocalDateTime referenceTime, final ReferenceCondition condition, final boolean strictCondition,
             final LocalDateTime rangeStartInclusive, final LocalDateTime rangeEndExclusive) {
-        final TemporalUnit precision = getPrecisionFieldOr(PartialField.MAX_PRECISION).getTemporalField().getBaseUnit();
-        final LocalDateTime truncatedRangeStartInclusive = truncateRangeStart(rangeStartInclusive, rangeEndExclusive, precision);
-        final LocalDateTime referenceWithinRange = DateTimeRanges.adjustInto(referenceTime, truncatedRangeStartInclusive, rangeEndExclusive, precision);
-
-        final NearestToReference nearestToReference = new NearestToReference(referenceWithinRange);
-        return IntStream.concat(IntStream.rangeClosed(0, condition.getRetries()), intStreamRangeClosedDecreasing(-1, -condition.getReverseRetries()))//
-                .mapToObj(retry -> getNearestCandidate(shiftReference(referenceWithinRange, retry * condition.getFallbackDirection()),
-                        condition.getFallbackDirection()))//
-                .filter(candidate -> DateTimeRanges.isWithin(candidate, truncatedRangeStartInclusive, rangeEndExclusive) && represents(candidate))//
-                .peek(nearestToReference)//
-                .filter(candidate -> condition.test(candidate, referenceTime))//
-                .findFirst()//
-                .orElseGet(() -> {
-                    @Nullable
-                    final LocalDateTime fallbackNearResult = nearestToReference.get();
-                    if (fallbackNearResult == null) {
-                        throw new DateTimeException(String.format("Cannot resolve an instant near %s represented by %s.", referenceWithinRange, this));
-                    } else if (condition.isStrictApplicable() && strictCondition && !condition.test(fallbackNearResult, referenceTime)) {
-                        throw new DateTimeException(
-                                String.format("Unable to complete %s: nearest value %s within range %s does not strictly satisfy condition %s %s", this,
-                                        fallbackNearResult, DateTimeRanges.toString(rangeStartInclusive, rangeEndExclusive), condition, referenceTime));
-                    }
-                    return fallbackNearResult;
-                });
+        final LocalDateTime truncatedRangeStartInclusive;
+        final LocalDateTime referenceWithinRange;
+        if (rangeStartInclusive == LocalDateTime.MIN && rangeEndExclusive == LocalDateTime.MAX) {
+            // Unbounded range: LocalDateTime.MIN is already truncated, and any reference is within range
+            truncatedRangeStartInclusive = rangeStartInclusive;
+            referenceWithinRange = referenceTime;
+        } else {
+            final TemporalUnit precision = getPrecisionFieldOr(PartialField.MAX_PRECISION).getTemporalField().getBaseUnit();
+            truncatedRangeStartInclusive = truncateRangeStart(rangeStartInclusive, rangeEndExclusive, precision);
+            referenceWithinRange = DateTimeRanges.adjustInto(referenceTime, truncatedRangeStartInclusive, rangeEndExclusive, precision);
+        }
+        final long rangeStartSecond = truncatedRangeStartInclusive.toEpochSecond(ZoneOffset.UTC);
+        final int rangeStartNano = truncatedRangeStartInclusive.getNano();
+        final long rangeEndSecond = rangeEndExclusive.toEpochSecond(ZoneOffset.UTC);
+        final int rangeEndNano = rangeEndExclusive.getNano();
+        final long referenceSecond = referenceTime.toEpochSecond(ZoneOffset.UTC);
+        final int referenceNano = referenceTime.getNano();
+        final long nearSecond = referenceWithinRange.toEpochSecond(ZoneOffset.UTC);
+        final int nearNano = referenceWithinRange.getNano();
+        final long nearEpochMinute = Math.floorDiv(nearSecond, SECONDS_PER_MINUTE);
+
+        final int fallbackDirection = condition.getFallbackDirection();
+        final int retries = condition.getRetries();
+        final int allRetries = retries + condition.getReverseRetries();
+        long before = NO_CANDIDATE;
+        long after = NO_CANDIDATE;
+        boolean isAt = false;
+        // Retries 0, 1, ..., retries, then -1, -2, ..., -reverseRetries
+        for (int i = 0; i <= allRetries; i++) {
+            final int retry = i <= retries ? i : retries - i;
+            final long candidate = getNearestCandidate(nearEpochMinute, retry * fallbackDirection, fallbackDirection) * SECONDS_PER_MINUTE;
+            if (compare(candidate, rangeStartSecond, rangeStartNano) < 0 || compare(candidate, rangeEndSecond, rangeEndNano) >= 0) {
+                continue;
+            }
+            final int comparedToNear = compare(candidate, nearSecond, nearNano);
+            if (comparedToNear < 0) {
+                if (before == NO_CANDIDATE || candidate > before) {
+                    before = candidate;
+                }
+            } else if (comparedToNear > 0) {
+                if (after == NO_CANDIDATE || candidate < after) {
+                    after = candidate;
+                }
+            } else {
+                isAt = true;
+            }
+            if (condition.test(compare(candidate, referenceSecond, referenceNano))) {
+                return LocalDateTime.ofEpochSecond(candidate, 0, ZoneOffset.UTC);
+            }
+        }
+
+        final long fallbackNearResult;
+        if (isAt) {
+            fallbackNearResult = nearSecond;
+        } else if (before != NO_CANDIDATE && after != NO_CANDIDATE) {
+            final long nanosBefore = (nearSecond - before) * NANOS_PER_SECOND + nearNano;
+            final long nanosAfter = (after - nearSecond) * NANOS_PER_SECOND - nearNano;
+            fallbackNearResult = nanosBefore < nanosAfter ? before : after;
+        } else if (before != NO_CANDIDATE) {
+            fallbackNearResult = before;
+        } else if (after != NO_CANDIDATE) {
+            fallbackNearResult = after;
+        } else {
+            throw new DateTimeException(String.format("Cannot resolve an instant near %s represented by %s.", referenceWithinRange, this));
+        }
+        if (condition.isStrictApplicable() && strictCondition && !condition.test(compare(fallbackNearResult, referenceSecond, referenceNano))) {
+            throw new DateTimeException(
+                    String.format("Unable to complete %s: nearest value %s within range %s does not strictly satisfy condition %s %s", this,
+                            LocalDateTime.ofEpochSecond(fallbackNearResult, 0, ZoneOffset.UTC),
+                            DateTimeRanges.toString(rangeStartInclusive, rangeEndExclusive), condition, referenceTime));
+        }
+        return isAt ? referenceWithinRange : LocalDateTime.ofEpochSecond(fallbackNearResult, 0, ZoneOffset.UTC);
     }
 
-    private LocalDateTime getNearestCandidate(final LocalDateTime referenceTime, final int fallbackDirection) {
-        try {
-            return toLocalDateTime(referenceTime);
-        } catch (final DateTimeException originatingException) {
-            // a partial field is greater than allowed in referenceTime, indicating that referenceTime represents an instant within next unit; try previous
-            try {
-                return toLocalDateTime(shiftReference(referenceTime, fallbackDirection));
-            } catch (final DateTimeException ignored) {
-                throw originatingException;
-            }
+    /**
+     * Compares a whole-second instant to an instant with a nano-of-second part.
+     */
+    private static int compare(final long epochSecond, final long otherEpochSecond, final int otherNano) {
+        if (epochSecond != otherEpochSecond) {
+            return epochSecond < otherEpochSecond ? -1 : 1;
         }
+        return otherNano == 0 ? 0 : -1;
     }
 
-    private LocalDateTime shiftReference(final LocalDateTime candidate, final int nth) {
-        if (nth == 0) {
+    /**
+     * Returns the candidate completed in context of the reference shifted by {@code shift} units, or when not representable, the candidate in context
+     * of the reference shifted by one more unit in {@code fallbackDirection}. A partial field greater than allowed in the reference indicates that the
+     * reference represents an instant within the next unit.
+     */
+    private long getNearestCandidate(final long referenceEpochMinute, final int shift, final int fallbackDirection) {
+        final long candidate = getCandidate(referenceEpochMinute, shift, false);
+        if (candidate != NO_CANDIDATE) {
             return candidate;
-        } else if (has(PartialField.DAY)) {
-            return candidate.plusMonths(nth);
+        }
+        final long fallbackCandidate = getCandidate(referenceEpochMinute, shift + fallbackDirection, false);
+        // Neither is valid: report the originating candidate
+        return fallbackCandidate != NO_CANDIDATE ? fallbackCandidate : getCandidate(referenceEpochMinute, shift, true);
+    }
+
+    /**
+     * Computes the local epoch minute of this partial completed with the calendar fields of the reference shifted by {@code shift} units of the field
+     * above the most significant present field.
+     *
+     * @return the local epoch minute, or {@link #NO_CANDIDATE} if the fields do not form a valid date-time and {@code throwIfInvalid} is false
+     *
+     * @throws DateTimeException
+     *         if the fields do not form a valid date-time and {@code throwIfInvalid} is true, or the shifted year is out of range
+     */
+    private long getCandidate(final long referenceEpochMinute, final int shift, final boolean throwIfInvalid) {
+        final long shiftedEpochMinute;
+        final int day = PartialField.DAY.getRawFieldValue(fieldValues);
+        final boolean hasDay = PartialField.DAY.isValueWithinValidRange(day);
+        if (hasDay) {
+            shiftedEpochMinute = referenceEpochMinute;
         } else if (has(PartialField.HOUR)) {
-            return candidate.plusDays(nth);
+            shiftedEpochMinute = referenceEpochMinute + (long) shift * MINUTES_PER_DAY;
         } else if (has(PartialField.MINUTE)) {
-            return candidate.plusHours(nth);
+            shiftedEpochMinute = referenceEpochMinute + (long) shift * MINUTES_PER_HOUR;
         } else {
-            return candidate.plusMinutes(nth);
+            shiftedEpochMinute = referenceEpochMinute + shift;
+        }
+
+        // Civil date of an epoch day, after Howard Hinnant's civil_from_days algorithm
+        final long shiftedEpochDay = Math.floorDiv(shiftedEpochMinute, MINUTES_PER_DAY);
+        final long dayOfEra0 = shiftedEpochDay + DAYS_0000_03_01_TO_1970_01_01;
+        final long era = Math.floorDiv(dayOfEra0, DAYS_PER_ERA);
+        final long dayOfEra = dayOfEra0 - era * DAYS_PER_ERA;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long monthIndex = (5 * dayOfYear + 2) / 153;
+        final int referenceDay = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        final int referenceMonth0 = (int) (monthIndex < 10 ? monthIndex + 2 : monthIndex - 10);
+        long referenceYear = yearOfEra + era * 400 + (referenceMonth0 < 2 ? 1 : 0);
+        final int referenceHour = (int) (Math.floorMod(shiftedEpochMinute, MINUTES_PER_DAY) / MINUTES_PER_HOUR);
+        final int referenceMinute = (int) Math.floorMod(shiftedEpochMinute, MINUTES_PER_HOUR);
+
+        int month0 = referenceMonth0;
+        if (hasDay && shift != 0) {
+            final long months = referenceYear * 12 + referenceMonth0 + shift;
+            referenceYear = Math.floorDiv(months, 12);
+            month0 = (int) Math.floorMod(months, 12);
+        }
+        final int year = ChronoField.YEAR.checkValidIntValue(referenceYear);
+        final Month month = Month.of(month0 + 1);
+
+        final int hour = PartialField.HOUR.getRawFieldValue(fieldValues);
+        final int minute = PartialField.MINUTE.getRawFieldValue(fieldValues);
+        final boolean midnight24h = isMidnight24h();
+        final int precision = getPrecisionOrdinalOr(PartialField.VALUES.length);
+        final int completedDay = hasDay ? day : (midnight24h || precision > PartialField.DAY.ordinal() ? referenceDay : 1);
+        final int completedHour = midnight24h ? 0 : has(PartialField.HOUR) ? hour : (precision > PartialField.HOUR.ordinal() ? referenceHour : 0);
+        final int completedMinute = midnight24h ? 0 : has(PartialField.MINUTE) ? minute : (precision > PartialField.MINUTE.ordinal() ? referenceMinute : 0);
+
+        if (completedDay < 1 || completedDay > month.length(Year.isLeap(year)) || completedHour > 23 || completedMinute > 59) {
+            if (throwIfInvalid) {
+                // Let LocalDateTime report the invalid field
+                LocalDateTime.of(year, month, completedDay, completedHour, completedMinute);
+                throw new DateTimeException(String.format("Invalid date-time %d-%s-%d %d:%d", year, month, completedDay, completedHour, completedMinute));
+            }
+            return NO_CANDIDATE;
         }
+        return (toEpochDay(year, month0 + 1, completedDay) + (midnight24h ? 1 : 0)) * MINUTES_PER_DAY + completedHour * MINUTES_PER_HOUR + completedMinute;
+    }
+
+    /**
+     * Returns the epoch day of a valid date, after Howard Hinnant's days_from_civil algorithm.
+     */
+    private static long toEpochDay(final long year, final int month, final int day) {
+        final long marchBasedYear = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(marchBasedYear, 400);
+        final long yearOfEra = marchBasedYear - era * 400;
+        final long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_03_01_TO_1970_01_01;
     }
 
     private LocalDateTime truncate(final LocalDateTime completedTime) {
@@ -1423,7 +1682,8 @@ public final class PartialDateTime implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(fieldValues, zone);
+        // Same as Objects.hash(fieldValues, zone) without boxing
+        return 31 * (31 + fieldValues) + Objects.hashCode(zone);
     }
 
     /**
@@ -1458,7 +1718,7 @@ public final class PartialDateTime implements Serializable {
          */
         NEAR(-1, false) {
             @Override
-            boolean test(final LocalDateTime candidate, final LocalDateTime reference) {
+            boolean test(final int comparison) {
                 return false; // enforcing fallback
             }
         },
@@ -1467,8 +1727,8 @@ public final class PartialDateTime implements Serializable {
          */
         AFTER(1, true) {
             @Override
-            boolean test(final LocalDateTime candidate, final LocalDateTime reference) {
-                return candidate.isAfter(reference);
+            boolean test(final int comparison) {
+                return comparison > 0;
             }
 
         },
@@ -1477,8 +1737,8 @@ public final class PartialDateTime implements Serializable {
          */
         NOT_BEFORE(1, true) {
             @Override
-            boolean test(final LocalDateTime candidate, final LocalDateTime reference) {
-                return !candidate.isBefore(reference);
+            boolean test(final int comparison) {
+                return comparison >= 0;
             }
 
         },
@@ -1487,8 +1747,8 @@ public final class PartialDateTime implements Serializable {
          */
         BEFORE(-1, true) {
             @Override
-            boolean test(final LocalDateTime candidate, final LocalDateTime reference) {
-                return candidate.isBefore(reference);
+            boolean test(final int comparison) {
+                return comparison < 0;
             }
 
         },
@@ -1497,8 +1757,8 @@ public final class PartialDateTime implements Serializable {
          */
         NOT_AFTER(-1, true) {
             @Override
-            boolean test(final LocalDateTime candidate, final LocalDateTime reference) {
-                return !candidate.isAfter(reference);
+            boolean test(final int comparison) {
+                return comparison <= 0;
             }
 
         };
@@ -1511,7 +1771,15 @@ public final class PartialDateTime implements Serializable {
             this.strictApplicable = strictApplicable;
         }
 
-        abstract boolean test(LocalDateTime candidate, LocalDateTime reference);
+        /**
+         * Tests whether a candidate satisfies this condition.
+         *
+         * @param comparison
+         *         negative, zero or positive when the candidate is before, at or after the reference time
+         *
+         * @return {@code true} if the candidate satisfies this condition
+         */
+        abstract boolean test(int comparison);
 
         int getFallbackDirection() {
             return fallbackDirection;
@@ -1618,50 +1886,67 @@ public final class PartialDateTime implements Serializable {
         abstract int get(Temporal temporal, boolean midnight24h);
     }
 
-    private static final class NearestToReference implements Consumer<LocalDateTime> {
-        private final LocalDateTime reference;
-        private LocalDateTime before = LocalDateTime.MIN;
-        private LocalDateTime after = LocalDateTime.MAX;
-        private boolean isAt = false;
-
-        private NearestToReference(final LocalDateTime reference) {
-            this.reference = reference;
-        }
-
-        @Override
-        public void accept(final LocalDateTime localDateTime) {
-            if (localDateTime.isBefore(reference) && localDateTime.isAfter(before)) {
-                before = localDateTime;
-            } else if (localDateTime.isAfter(reference) && localDateTime.isBefore(after)) {
-                after = localDateTime;
-            } else if (localDateTime.isEqual(reference)) {
-                isAt = true;
-            }
+    /**
+     * Canonical instances for all combinations of day (0-31), hour (0-24) and minute (0-59) with no zone or UTC zone. The instances are
+     * created on first use.
+     */
+    private static final class Flyweights {
+        private static final int DAY_SLOTS = 33;
+        private static final int HOUR_SLOTS = 26;
+        private static final int MINUTE_SLOTS = 61;
+        private static final AtomicReferenceArray<AtomicReferenceArray<PartialDateTime>> INSTANCES = new AtomicReferenceArray<>(2 * DAY_SLOTS);
+
+        private Flyweights() {
+            throw new AssertionError();
         }
 
+        /**
+         * Returns the canonical instance of given field values and zone, or null if the values are not cacheable.
+         *
+         * @throws DateTimeException
+         *         if the fields are <a href="#continuous-fields">uncontinuous</a>
+         */
         @Nullable
-        public LocalDateTime get() {
-            if (isAt) {
-                return reference;
-            }
-            final boolean hasBefore = before != LocalDateTime.MIN;
-            final boolean hasAfter = after != LocalDateTime.MAX;
-            if (hasBefore && hasAfter) {
-                final Duration durationBefore = Duration.between(before, reference);
-                final Duration durationAfter = Duration.between(reference, after);
-                final int comparisonResult = durationBefore.compareTo(durationAfter);
-                if (comparisonResult < 0) {
-                    return before;
-                } else {
-                    return after;
-                }
-            } else if (hasBefore) {
-                return before;
-            } else if (hasAfter) {
-                return after;
+        static PartialDateTime get(final int fieldValues, @Nullable final ZoneId zone) {
+            final int zoneSlot;
+            if (zone == null) {
+                zoneSlot = 0;
+            } else if (zone.equals(ZoneOffset.UTC)) {
+                zoneSlot = 1;
             } else {
                 return null;
             }
+            final int daySlot = slot(PartialField.DAY.getRawFieldValue(fieldValues), DAY_SLOTS);
+            final int hourSlot = slot(PartialField.HOUR.getRawFieldValue(fieldValues), HOUR_SLOTS);
+            final int minuteSlot = slot(PartialField.MINUTE.getRawFieldValue(fieldValues), MINUTE_SLOTS);
+            if (daySlot < 0 || hourSlot < 0 || minuteSlot < 0) {
+                return null;
+            }
+            final int dayIndex = zoneSlot * DAY_SLOTS + daySlot;
+            AtomicReferenceArray<PartialDateTime> instances = INSTANCES.get(dayIndex);
+            if (instances == null) {
+                INSTANCES.compareAndSet(dayIndex, null, new AtomicReferenceArray<>(HOUR_SLOTS * MINUTE_SLOTS));
+                instances = INSTANCES.get(dayIndex);
+            }
+            final int index = hourSlot * MINUTE_SLOTS + minuteSlot;
+            PartialDateTime instance = instances.get(index);
+            if (instance == null) {
+                instance = new PartialDateTime(fieldValues, zone == null ? null : ZoneOffset.UTC);
+                if (!instances.compareAndSet(index, null, instance)) {
+                    instance = instances.get(index);
+                }
+            }
+            return instance;
+        }
+
+        /**
+         * Returns the slot of a raw field value, the last slot being reserved for the empty field, or -1 for values not cached.
+         */
+        private static int slot(final int rawValue, final int slots) {
+            if (rawValue == EMPTY_FIELD_VALUE) {
+                return slots - 1;
+            }
+            return rawValue < slots - 1 ? rawValue : -1;
         }
     }
 
@@ -1,20 +1,22 @@
 package fi.fmi.avi.model;
 
-import org.locationtech.jts.algorithm.Orientation;
-import org.locationtech.jts.geom.Coordinate;
-
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+
+import fi.fmi.avi.model.immutable.DoubleList;
 
 /**
  * Polygon winding order (clockwise or counter-clockwise).
  *
  * <p>
- * <strong>Note:</strong> The winding detection in this class uses
- * {@link Orientation#isCCW(Coordinate[])} from JTS. This calculation may produce incorrect results for polygons
- * that cross the antimeridian (±180° longitude).
+ * The winding is determined from the sign of the ring area computed with the shoelace formula, treating the longitudes
+ * as x and the latitudes as y coordinates. An edge with a longitude difference of more than 180 degrees is taken to cross
+ * the antimeridian (±180° longitude), and the longitudes following it are shifted by 360 degrees before computing
+ * the area. Only an edge from -180° to 180° or back is taken as is, so that a band from -180° to 180° still covers all
+ * the longitudes between them.
+ * </p>
+ * <p>
+ * The positions are read without boxing when given as a {@link DoubleList}, and no intermediate objects are created
+ * for detecting the winding.
  * </p>
  */
 public enum Winding {
@@ -28,59 +30,97 @@ public enum Winding {
      * 4 coordinate pairs, the original list is returned unchanged.
      * </p>
      *
-     * <p>
-     * <strong>Note:</strong> This method may produce incorrect results for polygons that
-     * cross the antimeridian. See the class-level documentation for details.
-     * </p>
-     *
      * @param positions        the list of coordinate positions (lat, lon pairs)
      * @param requestedWinding the desired winding order
      * @return the positions list with enforced winding order, or the original list if not a closed ring
      */
     public static List<Double> enforceWinding(final List<Double> positions, final Winding requestedWinding) {
-        if (!isClosedRing(positions)) {
+        if (!isClosedRing(positions) || getWinding(positions) == requestedWinding) {
             return positions;
         }
-
-        final Coordinate[] coordinates = getCoordinates(positions).toArray(Coordinate[]::new);
-        final boolean isCCW = Orientation.isCCW(coordinates);
-
-        if (isCCW == (requestedWinding == COUNTERCLOCKWISE)) {
-            return positions;
-        }
-
-        return IntStream.range(0, coordinates.length)
-                .map(i -> coordinates.length - 1 - i)
-                .mapToObj(i -> coordinates[i])
-                .flatMap(coordinate -> Stream.of(coordinate.y, coordinate.x))
-                .collect(Collectors.toList());
+        return reverse(positions);
     }
 
     /**
      * Determines the winding order of a polygon from its coordinate positions.
      *
-     * <p>
-     * <strong>Note:</strong> This method may produce incorrect results for polygons that
-     * cross the antimeridian. See the class-level documentation for details.
-     * </p>
-     *
      * @param positions the list of coordinate positions (lat, lon pairs)
-     * @return the detected winding order
+     * @return the detected winding order, {@link #CLOCKWISE} for degenerate rings with no area
      */
     public static Winding getWinding(final List<Double> positions) {
-        final Coordinate[] coords = getCoordinates(positions).toArray(Coordinate[]::new);
-        return Orientation.isCCW(coords) ? COUNTERCLOCKWISE : CLOCKWISE;
+        return signedArea(positions) > 0 ? COUNTERCLOCKWISE : CLOCKWISE;
     }
 
     public static boolean isClosedRing(final List<Double> positions) {
-        return positions.size() >= 8
-                && positions.get(0).equals(positions.get(positions.size() - 2))
-                && positions.get(1).equals(positions.get(positions.size() - 1));
+        final int size = positions.size();
+        return size >= 8
+                && Double.doubleToLongBits(get(positions, 0)) == Double.doubleToLongBits(get(positions, size - 2))
+                && Double.doubleToLongBits(get(positions, 1)) == Double.doubleToLongBits(get(positions, size - 1));
     }
 
-    private static Stream<Coordinate> getCoordinates(final List<Double> positions) {
-        return IntStream.range(0, positions.size() / 2)
-                .mapToObj(i -> new Coordinate(positions.get(i * 2 + 1), positions.get(i * 2)));
+    /**
+     * Returns the coordinate pairs of the given positions in reverse order.
+     *
+     * @param positions the list of coordinate positions (lat, lon pairs)
+     * @return new list with the coordinate pairs reversed
+     */
+    public static List<Double> reverse(final List<Double> positions) {
+        final int pairs = positions.size() / 2;
+        final double[] reversed = new double[pairs * 2];
+        for (int i = 0; i < pairs; i++) {
+            final int from = (pairs - 1 - i) * 2;
+            reversed[i * 2] = get(positions, from);
+            reversed[i * 2 + 1] = get(positions, from + 1);
+        }
+        return DoubleList.of(reversed);
+    }
+
+    /**
+     * Computes twice the signed area of the ring with the longitudes unwrapped across the antimeridian. The coordinates are
+     * taken relative to the first position to retain precision.
+     */
+    private static double signedArea(final List<Double> positions) {
+        final int pairs = positions.size() / 2;
+        if (pairs < 3) {
+            return 0;
+        }
+        final double lat0 = get(positions, 0);
+        final double lon0 = get(positions, 1);
+        double area = 0;
+        double previousLat = 0;
+        double previousLon = lon0;
+        double previousX = 0;
+        for (int i = 1; i <= pairs; i++) {
+            // Close the ring implicitly, a closed ring adds an edge of zero area
+            final int index = i < pairs ? i * 2 : 0;
+            final double lat = get(positions, index) - lat0;
+            final double lon = get(positions, index + 1);
+            double delta = lon - previousLon;
+            if (Math.abs(delta) > 180 && !isFullLongitudeEdge(previousLon, lon)) {
+                delta -= Math.copySign(360, delta);
+            }
+            final double x = previousX + delta;
+            area += previousX * lat - x * previousLat;
+            previousLat = lat;
+            previousLon = lon;
+            previousX = x;
+        }
+        return area;
+    }
+
+    /**
+     * Tells whether the edge runs along a parallel from one side of the antimeridian to the other, spanning all
+     * the longitudes. Other edges ending on ±180° are unwrapped like any other antimeridian crossing.
+     */
+    private static boolean isFullLongitudeEdge(final double fromLon, final double toLon) {
+        return Math.abs(fromLon) == 180 && toLon == -fromLon;
+    }
+
+    private static double get(final List<Double> positions, final int index) {
+        if (positions instanceof DoubleList) {
+            return ((DoubleList) positions).getDouble(index);
+        }
+        return positions.get(index);
     }
 
-}
\ No newline at end of file
+}
@@ -1,14 +1,18 @@
 package fi.fmi.avi.model.bulletin;
 
 import fi.fmi.avi.model.AviationWeatherMessage;
+import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
 import fi.fmi.avi.model.bulletin.immutable.BulletinHeadingImpl;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -90,4 +94,59 @@ public final class MeteorologicalBulletinBuilderHelper {
         setCollectIdentifier.accept(builder, value.getCollectIdentifier());
     }
 
+    /**
+     * Returns the provided {@code heading} with its issue time completed near the provided {@code reference}.
+     * A heading with complete issue time is returned as is.
+     *
+     * <p>
+     * The complete issue time of the returned heading is intended to be used as the reference time for completing all messages of the bulletin,
+     * see {@link #withAllTimesComplete(List, ZonedDateTime, BiFunction, boolean)}.
+     * </p>
+     *
+     * @param heading   bulletin heading to complete
+     * @param reference reference time to complete the issue time near
+     * @return heading with complete issue time
+     */
+    public static BulletinHeading withCompleteIssueTimeNear(final BulletinHeading heading, final ZonedDateTime reference) {
+        requireNonNull(heading, "heading");
+        requireNonNull(reference, "reference");
+        final PartialOrCompleteTimeInstant issueTime = heading.getIssueTime();
+        if (issueTime.getCompleteTime().isPresent()) {
+            return heading;
+        }
+        return BulletinHeadingImpl.Builder.from(heading)//
+                .setIssueTime(issueTime.toBuilder().completePartialNear(reference).build())//
+                .build();
+    }
+
+    /**
+     * Completes all time references of provided {@code messages} using the bulletin issue time as the common reference time.
+     *
+     * <p>
+     * Messages having {@link AviationWeatherMessage#areAllTimeReferencesComplete() all time references complete} are returned as is, and the
+     * remaining messages are completed with {@code completeAllTimes}, typically a call to {@code withAllTimesComplete(ZonedDateTime)} of the message
+     * builder. When {@code parallel} is {@code true}, the messages are completed in parallel. The order of messages is retained in either case.
+     * </p>
+     *
+     * @param <M>              type of messages
+     * @param messages         messages to complete
+     * @param issueTime        complete issue time of the bulletin
+     * @param completeAllTimes function completing all time references of a message in the context of given reference time
+     * @param parallel         whether to complete the messages in parallel
+     * @return list of messages with time references complete
+     */
+    public static <M extends AviationWeatherMessage> List<M> withAllTimesComplete(
+            final List<M> messages,
+            final ZonedDateTime issueTime,
+            final BiFunction<? super M, ZonedDateTime, ? extends M> completeAllTimes,
+            final boolean parallel) {
+        requireNonNull(messages, "messages");
+        requireNonNull(issueTime, "issueTime");
+        requireNonNull(completeAllTimes, "completeAllTimes");
+        final Stream<M> stream = parallel ? messages.parallelStream() : messages.stream();
+        return stream//
+                .map(message -> message.areAllTimeReferencesComplete() ? message : completeAllTimes.apply(message, issueTime))//
+                .collect(Collectors.toList());
+    }
+
 }
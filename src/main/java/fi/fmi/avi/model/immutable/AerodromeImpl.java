@@ -38,6 +38,20 @@ public abstract class AerodromeImpl implements Aerodrome, Serializable {
         }
     }
 
+    /**
+     * Returns the canonical immutable instance equal to the given value.
+     *
+     * @param aerodrome
+     *         the value to copy
+     * @param interner
+     *         the interner providing the canonical instances
+     *
+     * @return an immutable instance shared by all the equal values interned with <code>interner</code>
+     */
+    public static AerodromeImpl immutableCopyOf(final Aerodrome aerodrome, final ValueInterner interner) {
+        return interner.intern(immutableCopyOf(aerodrome));
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static Optional<AerodromeImpl> immutableCopyOf(final Optional<Aerodrome> aerodrome) {
         return aerodrome.map(AerodromeImpl::immutableCopyOf);
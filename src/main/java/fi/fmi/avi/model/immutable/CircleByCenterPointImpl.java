@@ -8,9 +8,13 @@ import fi.fmi.avi.model.NumericMeasure;
 import org.inferred.freebuilder.FreeBuilder;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.BaseStream;
 
 @FreeBuilder
 @JsonDeserialize(builder = CircleByCenterPointImpl.Builder.class)
@@ -38,10 +42,14 @@ public abstract class CircleByCenterPointImpl implements CircleByCenterPoint, Se
         return geom.map(CircleByCenterPointImpl::immutableCopyOf);
     }
 
+    @Override
+    public abstract DoubleList getCenterPointCoordinates();
+
     public abstract Builder toBuilder();
 
     public static class Builder extends CircleByCenterPointImpl_Builder {
         Builder() {
+            setCenterPointCoordinates(DoubleList.empty());
         }
 
         public static Builder from(final CircleByCenterPoint value) {
@@ -66,8 +74,40 @@ public abstract class CircleByCenterPointImpl implements CircleByCenterPoint, Se
             return super.setRadius(radius);
         }
 
+        public Builder addCenterPointCoordinates(final double element) {
+            return setCenterPointCoordinates(getCenterPointCoordinates().appending(element));
+        }
+
+        public Builder addCenterPointCoordinates(final double... elements) {
+            return setCenterPointCoordinates(getCenterPointCoordinates().appending(elements));
+        }
+
+        public Builder addAllCenterPointCoordinates(final Iterable<? extends Double> elements) {
+            return setCenterPointCoordinates(getCenterPointCoordinates().appendingAll(elements));
+        }
+
+        public Builder addAllCenterPointCoordinates(final Spliterator<? extends Double> elements) {
+            final List<Double> list = new ArrayList<>();
+            elements.forEachRemaining(list::add);
+            return addAllCenterPointCoordinates(list);
+        }
+
+        public Builder addAllCenterPointCoordinates(final BaseStream<? extends Double, ?> elements) {
+            return addAllCenterPointCoordinates(elements.spliterator());
+        }
+
+        public Builder clearCenterPointCoordinates() {
+            return setCenterPointCoordinates(DoubleList.empty());
+        }
+
+        public Builder mutateCenterPointCoordinates(final Consumer<? super List<Double>> mutator) {
+            final List<Double> elements = new ArrayList<>(getCenterPointCoordinates());
+            mutator.accept(elements);
+            return setCenterPointCoordinates(DoubleList.copyOf(elements));
+        }
+
         public Builder setCenterPointCoordinates(final List<Double> coordinates) {
-            return this.clearCenterPointCoordinates().addAllCenterPointCoordinates(coordinates);
+            return setCenterPointCoordinates(DoubleList.copyOf(coordinates));
         }
     }
 
@@ -40,6 +40,20 @@ public abstract class CoordinateReferenceSystemImpl implements CoordinateReferen
         return Builder.from(requireNonNull(crs, "crs")).build();
     }
 
+    /**
+     * Returns the canonical immutable instance equal to the given value.
+     *
+     * @param crs
+     *         the value to copy
+     * @param interner
+     *         the interner providing the canonical instances
+     *
+     * @return an immutable instance shared by all the equal values interned with <code>interner</code>
+     */
+    public static CoordinateReferenceSystemImpl immutableCopyOf(final CoordinateReferenceSystem crs, final ValueInterner interner) {
+        return interner.intern(immutableCopyOf(crs));
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static Optional<CoordinateReferenceSystemImpl> immutableCopyOf(final Optional<CoordinateReferenceSystem> crs) {
         requireNonNull(crs, "crs");
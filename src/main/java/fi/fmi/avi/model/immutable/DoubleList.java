@@ -0,0 +1,234 @@
+package fi.fmi.avi.model.immutable;
+
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * Immutable list of doubles stored in a packed primitive array.
+ *
+ * <p>
+ * Used for storing the coordinates of the geometries. The {@link List} methods box the values on access only, while
+ * {@link #getDouble(int)}, {@link #toDoubleArray()} and {@link #asDoubleBuffer()} provide access to the values without
+ * boxing. The list is equal to any other list containing equal {@link Double} values in the same order, and has the same
+ * hash code.
+ * </p>
+ */
+public final class DoubleList extends AbstractList<Double> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = -1577937302843950418L;
+    private static final DoubleList EMPTY = new DoubleList(new double[0]);
+
+    private final double[] values;
+
+    private DoubleList(final double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @return empty list
+     */
+    public static DoubleList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list containing the given values.
+     *
+     * @param values
+     *         the values, copied
+     *
+     * @return list of <code>values</code>
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static DoubleList of(final double... values) {
+        Objects.requireNonNull(values, "values");
+        return values.length == 0 ? EMPTY : new DoubleList(values.clone());
+    }
+
+    /**
+     * Returns a list containing the given values. A <code>DoubleList</code> is returned as is.
+     *
+     * @param values
+     *         the values, none of which may be null
+     *
+     * @return list of <code>values</code>
+     *
+     * @throws NullPointerException
+     *         if <code>values</code> or any of its elements is null
+     */
+    public static DoubleList copyOf(final Iterable<? extends Double> values) {
+        Objects.requireNonNull(values, "values");
+        if (values instanceof DoubleList) {
+            return (DoubleList) values;
+        }
+        if (values instanceof Collection) {
+            final Collection<? extends Double> collection = (Collection<? extends Double>) values;
+            if (collection.isEmpty()) {
+                return EMPTY;
+            }
+            final double[] array = new double[collection.size()];
+            int i = 0;
+            for (final Double value : collection) {
+                array[i++] = Objects.requireNonNull(value, "value");
+            }
+            return new DoubleList(array);
+        }
+        double[] array = new double[10];
+        int size = 0;
+        for (final Double value : values) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            array[size++] = Objects.requireNonNull(value, "value");
+        }
+        return size == 0 ? EMPTY : new DoubleList(Arrays.copyOf(array, size));
+    }
+
+    /**
+     * Returns a list containing the values of this list followed by the given values.
+     *
+     * @param moreValues
+     *         the values to append
+     *
+     * @return new list, or this list if <code>moreValues</code> is empty
+     */
+    public DoubleList appending(final double... moreValues) {
+        Objects.requireNonNull(moreValues, "moreValues");
+        if (moreValues.length == 0) {
+            return this;
+        }
+        final double[] array = Arrays.copyOf(values, values.length + moreValues.length);
+        System.arraycopy(moreValues, 0, array, values.length, moreValues.length);
+        return new DoubleList(array);
+    }
+
+    /**
+     * Returns a list containing the values of this list followed by the given values.
+     *
+     * @param moreValues
+     *         the values to append, none of which may be null
+     *
+     * @return new list, or this list if <code>moreValues</code> is empty
+     */
+    public DoubleList appendingAll(final Iterable<? extends Double> moreValues) {
+        final DoubleList other = copyOf(moreValues);
+        if (values.length == 0) {
+            return other;
+        }
+        return appending(other.values);
+    }
+
+    /**
+     * Returns the value at the given index without boxing.
+     *
+     * @param index
+     *         index of the value
+     *
+     * @return the value
+     *
+     * @throws IndexOutOfBoundsException
+     *         if <code>index</code> is out of range
+     */
+    public double getDouble(final int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the values as an array.
+     *
+     * @return new array containing the values
+     */
+    public double[] toDoubleArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns a read-only buffer view of the values.
+     *
+     * @return new buffer positioned at the first value
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(values).asReadOnlyBuffer();
+    }
+
+    @Override
+    public Double get(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        if (o instanceof Double) {
+            final long bits = Double.doubleToLongBits((Double) o);
+            for (int i = 0; i < values.length; i++) {
+                if (Double.doubleToLongBits(values[i]) == bits) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        if (o instanceof Double) {
+            final long bits = Double.doubleToLongBits((Double) o);
+            for (int i = values.length - 1; i >= 0; i--) {
+                if (Double.doubleToLongBits(values[i]) == bits) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] array = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = values[i];
+        }
+        return array;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof DoubleList) {
+            return Arrays.equals(values, ((DoubleList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    private Object readResolve() {
+        return values.length == 0 ? EMPTY : this;
+    }
+
+}
@@ -1,9 +1,13 @@
 package fi.fmi.avi.model.immutable;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.BaseStream;
 
 import org.inferred.freebuilder.FreeBuilder;
 
@@ -42,11 +46,15 @@ public abstract class ElevatedPointImpl implements ElevatedPoint, Serializable {
         return geoPosition.map(ElevatedPointImpl::immutableCopyOf);
     }
 
+    @Override
+    public abstract DoubleList getCoordinates();
+
     public abstract Builder toBuilder();
 
     public static class Builder extends ElevatedPointImpl_Builder {
 
         Builder() {
+            setCoordinates(DoubleList.empty());
         }
 
         public static Builder from(final ElevatedPoint value) {
@@ -59,8 +67,40 @@ public abstract class ElevatedPointImpl implements ElevatedPoint, Serializable {
             }
         }
 
+        public Builder addCoordinates(final double element) {
+            return setCoordinates(getCoordinates().appending(element));
+        }
+
+        public Builder addCoordinates(final double... elements) {
+            return setCoordinates(getCoordinates().appending(elements));
+        }
+
+        public Builder addAllCoordinates(final Iterable<? extends Double> elements) {
+            return setCoordinates(getCoordinates().appendingAll(elements));
+        }
+
+        public Builder addAllCoordinates(final Spliterator<? extends Double> elements) {
+            final List<Double> list = new ArrayList<>();
+            elements.forEachRemaining(list::add);
+            return addAllCoordinates(list);
+        }
+
+        public Builder addAllCoordinates(final BaseStream<? extends Double, ?> elements) {
+            return addAllCoordinates(elements.spliterator());
+        }
+
+        public Builder clearCoordinates() {
+            return setCoordinates(DoubleList.empty());
+        }
+
+        public Builder mutateCoordinates(final Consumer<? super List<Double>> mutator) {
+            final List<Double> elements = new ArrayList<>(getCoordinates());
+            mutator.accept(elements);
+            return setCoordinates(DoubleList.copyOf(elements));
+        }
+
         public Builder setCoordinates(final List<Double> coordinates) {
-            return this.clearCoordinates().addAllCoordinates(coordinates);
+            return setCoordinates(DoubleList.copyOf(coordinates));
         }
 
         @JsonDeserialize(as = CoordinateReferenceSystemImpl.class)
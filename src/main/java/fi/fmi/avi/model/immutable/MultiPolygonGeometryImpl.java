@@ -67,6 +67,11 @@ public abstract class MultiPolygonGeometryImpl implements MultiPolygonGeometry,
             }
         }
 
+        @Override
+        public Builder addExteriorRingPositions(final List<Double> element) {
+            return super.addExteriorRingPositions(DoubleList.copyOf(element));
+        }
+
         @JsonDeserialize(as = CoordinateReferenceSystemImpl.class)
         @Override
         public Builder setCrs(final CoordinateReferenceSystem crs) {
@@ -46,6 +46,20 @@ public abstract class NumericMeasureImpl implements NumericMeasure, Serializable
         }
     }
 
+    /**
+     * Returns the canonical immutable instance equal to the given value.
+     *
+     * @param numericMeasure
+     *         the value to copy
+     * @param interner
+     *         the interner providing the canonical instances
+     *
+     * @return an immutable instance shared by all the equal values interned with <code>interner</code>
+     */
+    public static NumericMeasureImpl immutableCopyOf(final NumericMeasure numericMeasure, final ValueInterner interner) {
+        return interner.intern(immutableCopyOf(numericMeasure));
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static Optional<NumericMeasureImpl> immutableCopyOf(final Optional<NumericMeasure> numericMeasure) {
         return numericMeasure.map(NumericMeasureImpl::immutableCopyOf);
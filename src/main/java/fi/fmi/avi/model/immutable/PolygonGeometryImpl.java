@@ -8,9 +8,13 @@ import fi.fmi.avi.model.Winding;
 import org.inferred.freebuilder.FreeBuilder;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.BaseStream;
 
 @FreeBuilder
 @JsonDeserialize(builder = PolygonGeometryImpl.Builder.class)
@@ -19,6 +23,8 @@ public abstract class PolygonGeometryImpl implements PolygonGeometry, Serializab
 
     private static final long serialVersionUID = 5468081316994649748L;
 
+    private transient Winding exteriorRingWinding;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -38,15 +44,27 @@ public abstract class PolygonGeometryImpl implements PolygonGeometry, Serializab
         return polygonsGeometry.map(PolygonGeometryImpl::immutableCopyOf);
     }
 
+    @Override
+    public abstract DoubleList getExteriorRingPositions();
+
     @Override
     public Winding getExteriorRingWinding() {
-        final List<Double> positions = getExteriorRingPositions();
-        return Winding.getWinding(positions);
+        // Racy single-check idiom: the winding is a pure function of the immutable positions
+        Winding winding = exteriorRingWinding;
+        if (winding == null) {
+            winding = Winding.getWinding(getExteriorRingPositions());
+            exteriorRingWinding = winding;
+        }
+        return winding;
     }
 
     @Override
     public List<Double> getExteriorRingPositions(final Winding winding) {
-        return Winding.enforceWinding(getExteriorRingPositions(), winding);
+        final DoubleList positions = getExteriorRingPositions();
+        if (!Winding.isClosedRing(positions) || getExteriorRingWinding() == winding) {
+            return positions;
+        }
+        return Winding.reverse(positions);
     }
 
     public abstract Builder toBuilder();
@@ -54,6 +72,7 @@ public abstract class PolygonGeometryImpl implements PolygonGeometry, Serializab
     public static class Builder extends PolygonGeometryImpl_Builder {
 
         Builder() {
+            setExteriorRingPositions(DoubleList.empty());
         }
 
         public static Builder from(final PolygonGeometry value) {
@@ -66,8 +85,40 @@ public abstract class PolygonGeometryImpl implements PolygonGeometry, Serializab
             }
         }
 
+        public Builder addExteriorRingPositions(final double element) {
+            return setExteriorRingPositions(getExteriorRingPositions().appending(element));
+        }
+
+        public Builder addExteriorRingPositions(final double... elements) {
+            return setExteriorRingPositions(getExteriorRingPositions().appending(elements));
+        }
+
+        public Builder addAllExteriorRingPositions(final Iterable<? extends Double> elements) {
+            return setExteriorRingPositions(getExteriorRingPositions().appendingAll(elements));
+        }
+
+        public Builder addAllExteriorRingPositions(final Spliterator<? extends Double> elements) {
+            final List<Double> list = new ArrayList<>();
+            elements.forEachRemaining(list::add);
+            return addAllExteriorRingPositions(list);
+        }
+
+        public Builder addAllExteriorRingPositions(final BaseStream<? extends Double, ?> elements) {
+            return addAllExteriorRingPositions(elements.spliterator());
+        }
+
+        public Builder clearExteriorRingPositions() {
+            return setExteriorRingPositions(DoubleList.empty());
+        }
+
+        public Builder mutateExteriorRingPositions(final Consumer<? super List<Double>> mutator) {
+            final List<Double> elements = new ArrayList<>(getExteriorRingPositions());
+            mutator.accept(elements);
+            return setExteriorRingPositions(DoubleList.copyOf(elements));
+        }
+
         public Builder setExteriorRingPositions(final List<Double> positions) {
-            return clearExteriorRingPositions().addAllExteriorRingPositions(positions);
+            return setExteriorRingPositions(DoubleList.copyOf(positions));
         }
 
         @JsonDeserialize(as = CoordinateReferenceSystemImpl.class)
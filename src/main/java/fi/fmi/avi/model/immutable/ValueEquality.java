@@ -0,0 +1,238 @@
+package fi.fmi.avi.model.immutable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Structural {@link Object#equals(Object)} and {@link Object#hashCode()} of immutable value objects over a fixed list of properties.
+ *
+ * <p>
+ * Large immutable message classes, such as {@link fi.fmi.avi.model.taf.immutable.TAFImpl}, use this class instead of the equality generated by
+ * FreeBuilder to be able to memoize their hash code. The hash code is computed like {@link Objects#hash(Object...)} over the property values, and
+ * therefore equals the one generated by FreeBuilder for the same properties. {@link #equals(Object, Object)} returns early on identity, on a different
+ * class and on a different hash code, before comparing the property values.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are immutable and safe to use from multiple threads.
+ * </p>
+ *
+ * @param <T>
+ *         type of the value objects
+ */
+public final class ValueEquality<T> {
+
+    private final List<Function<? super T, ?>> properties;
+
+    private ValueEquality(final List<Function<? super T, ?>> properties) {
+        this.properties = Collections.unmodifiableList(properties);
+    }
+
+    /**
+     * Returns an equality over the given properties.
+     *
+     * @param properties
+     *         accessors of the properties to compare
+     * @param <T>
+     *         type of the value objects
+     *
+     * @return equality over <code>properties</code>
+     */
+    @SafeVarargs
+    public static <T> ValueEquality<T> of(final Function<? super T, ?>... properties) {
+        Objects.requireNonNull(properties, "properties");
+        final List<Function<? super T, ?>> list = new ArrayList<>(properties.length);
+        for (final Function<? super T, ?> property : properties) {
+            list.add(property);
+        }
+        return new ValueEquality<>(list);
+    }
+
+    /**
+     * Returns a 128-bit fingerprint of the content of the given value.
+     *
+     * <p>
+     * The fingerprint is a name-based (version 3) {@link UUID}, the MD5 digest of the class name of the value followed by its Jackson JSON encoding.
+     * Unlike the JSON conversions, the encoding includes all the properties, also the empty and default ones, and writes the complete times with their
+     * time zone, so that it is unambiguous for the immutable model classes. Equal values therefore have equal fingerprints, and values with equal
+     * fingerprints are equal with overwhelming probability. Unlike {@link Object#hashCode()}, the fingerprint is well suited for detecting duplicates
+     * among millions of values, and it is stable across JVM instances and library versions as long as the JSON model does not change.
+     * </p>
+     *
+     * @param value
+     *         value to compute the fingerprint of
+     *
+     * @return content fingerprint of <code>value</code>
+     */
+    public static UUID fingerprint(final Object value) {
+        Objects.requireNonNull(value, "value");
+        final MessageDigest digest = md5();
+        digest.update(value.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        // Class names contain no NUL characters, so the terminator separates the name from the content unambiguously
+        digest.update((byte) 0);
+        try (OutputStream out = new DigestOutputStream(NullOutputStream.INSTANCE, digest)) {
+            FingerprintWriter.INSTANCE.writeValue(out, value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final byte[] md5 = digest.digest();
+        md5[6] = (byte) (md5[6] & 0x0f | 0x30);
+        md5[8] = (byte) (md5[8] & 0x3f | 0x80);
+        final ByteBuffer buffer = ByteBuffer.wrap(md5);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not supported", e);
+        }
+    }
+
+    /**
+     * Returns an equality over the properties of this equality followed by the given properties.
+     *
+     * @param moreProperties
+     *         accessors of the additional properties to compare
+     * @param <S>
+     *         type of the value objects
+     *
+     * @return new equality
+     */
+    @SafeVarargs
+    public final <S extends T> ValueEquality<S> and(final Function<? super S, ?>... moreProperties) {
+        Objects.requireNonNull(moreProperties, "moreProperties");
+        final List<Function<? super S, ?>> allProperties = new ArrayList<>(properties.size() + moreProperties.length);
+        allProperties.addAll(properties);
+        for (final Function<? super S, ?> property : moreProperties) {
+            allProperties.add(property);
+        }
+        return new ValueEquality<>(allProperties);
+    }
+
+    /**
+     * Returns the number of properties compared by this equality.
+     *
+     * @return number of properties
+     */
+    public int size() {
+        return properties.size();
+    }
+
+    /**
+     * Computes the hash code of the given value.
+     *
+     * @param value
+     *         value to compute the hash code of
+     *
+     * @return hash code of <code>value</code>
+     */
+    public int hashCode(final T value) {
+        int result = 1;
+        for (final Function<? super T, ?> property : properties) {
+            result = 31 * result + Objects.hashCode(property.apply(value));
+        }
+        return result;
+    }
+
+    /**
+     * Tests whether the given values are equal. The values are equal if they are of the same class, and all the property values are equal.
+     *
+     * @param value
+     *         value to compare
+     * @param other
+     *         object to compare to
+     *
+     * @return <code>true</code> if <code>other</code> is equal to <code>value</code>, <code>false</code> otherwise
+     */
+    public boolean equals(final T value, @Nullable final Object other) {
+        if (value == other) {
+            return true;
+        }
+        if (other == null || value.getClass() != other.getClass() || value.hashCode() != other.hashCode()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        final T otherValue = (T) other;
+        for (final Function<? super T, ?> property : properties) {
+            if (!Objects.equals(property.apply(value), property.apply(otherValue))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writer of the fingerprint encoding, created on first use.
+     */
+    private static final class FingerprintWriter {
+        static final ObjectWriter INSTANCE = createWriter();
+
+        private static ObjectWriter createWriter() {
+            final ObjectMapper om = new ObjectMapper();
+            om.registerModule(new Jdk8Module());
+            om.registerModule(new JavaTimeModule());
+            om.setAnnotationIntrospector(new AllPropertiesIntrospector());
+            om.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            om.enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID);
+            om.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+            return om.writer();
+        }
+    }
+
+    /**
+     * Includes all the properties regardless of their {@link JsonInclude} annotations, and ignores the {@link JsonFormat} patterns, which may drop the
+     * time zone or the fraction of a second.
+     */
+    private static final class AllPropertiesIntrospector extends JacksonAnnotationIntrospector {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JsonInclude.Value findPropertyInclusion(final Annotated a) {
+            return JsonInclude.Value.construct(JsonInclude.Include.ALWAYS, JsonInclude.Include.ALWAYS);
+        }
+
+        @Override
+        public JsonFormat.Value findFormat(final Annotated a) {
+            return null;
+        }
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(final int b) {
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+        }
+    }
+
+}
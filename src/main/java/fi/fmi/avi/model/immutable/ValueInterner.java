@@ -0,0 +1,190 @@
+package fi.fmi.avi.model.immutable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size bounded pool of canonical instances of immutable value objects, such as {@link AerodromeImpl},
+ * {@link CoordinateReferenceSystemImpl}, {@link NumericMeasureImpl} and {@link WeatherImpl}.
+ *
+ * {@link #intern(Object)} returns the pooled instance equal to the given value, or pools and returns the given value
+ * if there is none. Storing the interned instances in long-lived structures, such as a store of the latest messages, lets
+ * all the equal values share a single instance. Only immutable objects with value based {@link Object#equals(Object)} and
+ * {@link Object#hashCode()} may be interned.
+ *
+ * The pool is split into independently locked segments by the value hash code. When a segment is full, its least
+ * recently used value is evicted. Evicting a value does not affect the objects referring to it, but equal values interned
+ * after the eviction will not share the instance anymore.
+ *
+ * All the methods are safe to call from multiple threads concurrently.
+ */
+public final class ValueInterner {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new interner.
+     *
+     * @param maximumSize
+     *         maximum number of values kept in the pool
+     */
+    public ValueInterner(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maximumSize);
+        }
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 <= maximumSize / 64) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            final int segmentSize = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * Returns the canonical instance equal to the given value.
+     *
+     * @param value
+     *         the immutable value to intern, may be null
+     * @param <T>
+     *         type of the value
+     *
+     * @return the pooled instance equal to <code>value</code>, or <code>value</code> itself if there was none, or null if <code>value</code> is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T intern(final T value) {
+        if (value == null) {
+            return null;
+        }
+        final int hash = value.hashCode();
+        final Segment segment = segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+        final Object pooled;
+        synchronized (segment) {
+            pooled = segment.putIfAbsent(value, value);
+        }
+        if (pooled == null) {
+            misses.increment();
+            return value;
+        }
+        hits.increment();
+        return (T) pooled;
+    }
+
+    /**
+     * Removes all the pooled values.
+     */
+    public void clear() {
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values currently pooled.
+     *
+     * @return pool size
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the interner statistics.
+     *
+     * @return interner statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private final class Segment extends LinkedHashMap<Object, Object> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        Segment(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Object, Object> eldest) {
+            if (size() > maximumSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Interner hit, miss and eviction counts.
+     */
+    public static final class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        Statistics(final long hitCount, final long missCount, final long evictionCount, final int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        /**
+         * @return number of values replaced by a pooled instance
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return number of values added to the pool
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return number of values removed because of the size limit
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return ratio of hits to all the interned values, or 0 if there have been none
+         */
+        public double getHitRate() {
+            final long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "hits " + hitCount + ", misses " + missCount + ", evictions " + evictionCount + ", size " + size;
+        }
+    }
+}
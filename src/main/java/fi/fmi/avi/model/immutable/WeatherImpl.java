@@ -473,6 +473,20 @@ public abstract class WeatherImpl implements Weather, Serializable {
         }
     }
 
+    /**
+     * Returns the canonical immutable instance equal to the given value.
+     *
+     * @param weather
+     *         the value to copy
+     * @param interner
+     *         the interner providing the canonical instances
+     *
+     * @return an immutable instance shared by all the equal values interned with <code>interner</code>
+     */
+    public static WeatherImpl immutableCopyOf(final Weather weather, final ValueInterner interner) {
+        return interner.intern(immutableCopyOf(weather));
+    }
+
     public static Optional<WeatherImpl> immutableCopyOf(final Optional<Weather> weather) {
         Objects.requireNonNull(weather);
         return weather.map(WeatherImpl::immutableCopyOf);
@@ -6,6 +6,7 @@ import java.io.Serializable;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.inferred.freebuilder.FreeBuilder;
 
@@ -14,10 +15,12 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import fi.fmi.avi.model.Aerodrome;
+import fi.fmi.avi.model.AviationWeatherMessageBuilderHelper;
 import fi.fmi.avi.model.NumericMeasure;
 import fi.fmi.avi.model.Weather;
 import fi.fmi.avi.model.immutable.AerodromeImpl;
 import fi.fmi.avi.model.immutable.NumericMeasureImpl;
+import fi.fmi.avi.model.immutable.ValueEquality;
 import fi.fmi.avi.model.immutable.WeatherImpl;
 import fi.fmi.avi.model.metar.HorizontalVisibility;
 import fi.fmi.avi.model.metar.METAR;
@@ -43,6 +46,32 @@ public abstract class METARImpl extends AbstractMeteorologicalTerminalAirReportI
 
     private static final long serialVersionUID = 5959988117998705772L;
 
+    private static final ValueEquality<METARImpl> EQUALITY = AviationWeatherMessageBuilderHelper.equality().and(//
+            METARImpl::getAerodrome, //
+            METARImpl::isAutomatedStation, //
+            METARImpl::isMissingMessage, //
+            METARImpl::isCeilingAndVisibilityOk, //
+            METARImpl::getAirTemperature, //
+            METARImpl::getDewpointTemperature, //
+            METARImpl::getAltimeterSettingQNH, //
+            METARImpl::getSurfaceWind, //
+            METARImpl::getVisibility, //
+            METARImpl::getRunwayVisualRanges, //
+            METARImpl::getPresentWeather, //
+            METARImpl::getClouds, //
+            METARImpl::getRecentWeather, //
+            METARImpl::getWindShear, //
+            METARImpl::getSeaState, //
+            METARImpl::getRunwayStates, //
+            METARImpl::isSnowClosure, //
+            METARImpl::isNoSignificantChanges, //
+            METARImpl::getTrends, //
+            METARImpl::getColorState, //
+            METARImpl::isRoutineDelayed);
+
+    private transient int hashCode;
+    private transient UUID contentFingerprint;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -65,6 +94,36 @@ public abstract class METARImpl extends AbstractMeteorologicalTerminalAirReportI
     @Override
     public abstract Builder toBuilder();
 
+    /**
+     * Returns a 128-bit fingerprint of the content of this message, computed on first call.
+     * See {@link ValueEquality#fingerprint(Object)}.
+     *
+     * @return content fingerprint of this message
+     */
+    public UUID contentFingerprint() {
+        UUID result = contentFingerprint;
+        if (result == null) {
+            result = ValueEquality.fingerprint(this);
+            contentFingerprint = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = EQUALITY.hashCode(this);
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return EQUALITY.equals(this, obj);
+    }
+
     public static class Builder extends METARImpl_Builder implements MeteorologicalTerminalAirReportBuilder<METARImpl, Builder> {
 
         Builder() {
@@ -6,6 +6,7 @@ import java.io.Serializable;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.inferred.freebuilder.FreeBuilder;
 
@@ -14,10 +15,12 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import fi.fmi.avi.model.Aerodrome;
+import fi.fmi.avi.model.AviationWeatherMessageBuilderHelper;
 import fi.fmi.avi.model.NumericMeasure;
 import fi.fmi.avi.model.Weather;
 import fi.fmi.avi.model.immutable.AerodromeImpl;
 import fi.fmi.avi.model.immutable.NumericMeasureImpl;
+import fi.fmi.avi.model.immutable.ValueEquality;
 import fi.fmi.avi.model.immutable.WeatherImpl;
 import fi.fmi.avi.model.metar.HorizontalVisibility;
 import fi.fmi.avi.model.metar.MeteorologicalTerminalAirReport;
@@ -42,6 +45,31 @@ import fi.fmi.avi.model.metar.WindShear;
 public abstract class SPECIImpl extends AbstractMeteorologicalTerminalAirReportImpl<SPECIImpl, SPECIImpl.Builder> implements SPECI, Serializable {
     private static final long serialVersionUID = 1918131429312289735L;
 
+    private static final ValueEquality<SPECIImpl> EQUALITY = AviationWeatherMessageBuilderHelper.equality().and(//
+            SPECIImpl::getAerodrome, //
+            SPECIImpl::isAutomatedStation, //
+            SPECIImpl::isMissingMessage, //
+            SPECIImpl::isCeilingAndVisibilityOk, //
+            SPECIImpl::getAirTemperature, //
+            SPECIImpl::getDewpointTemperature, //
+            SPECIImpl::getAltimeterSettingQNH, //
+            SPECIImpl::getSurfaceWind, //
+            SPECIImpl::getVisibility, //
+            SPECIImpl::getRunwayVisualRanges, //
+            SPECIImpl::getPresentWeather, //
+            SPECIImpl::getClouds, //
+            SPECIImpl::getRecentWeather, //
+            SPECIImpl::getWindShear, //
+            SPECIImpl::getSeaState, //
+            SPECIImpl::getRunwayStates, //
+            SPECIImpl::isSnowClosure, //
+            SPECIImpl::isNoSignificantChanges, //
+            SPECIImpl::getTrends, //
+            SPECIImpl::getColorState);
+
+    private transient int hashCode;
+    private transient UUID contentFingerprint;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -64,6 +92,36 @@ public abstract class SPECIImpl extends AbstractMeteorologicalTerminalAirReportI
     @Override
     public abstract Builder toBuilder();
 
+    /**
+     * Returns a 128-bit fingerprint of the content of this message, computed on first call.
+     * See {@link ValueEquality#fingerprint(Object)}.
+     *
+     * @return content fingerprint of this message
+     */
+    public UUID contentFingerprint() {
+        UUID result = contentFingerprint;
+        if (result == null) {
+            result = ValueEquality.fingerprint(this);
+            contentFingerprint = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = EQUALITY.hashCode(this);
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return EQUALITY.equals(this, obj);
+    }
+
     public static class Builder extends SPECIImpl_Builder implements MeteorologicalTerminalAirReportBuilder<SPECIImpl, Builder> {
 
         Builder() {
@@ -10,6 +10,7 @@ import fi.fmi.avi.model.immutable.AirspaceImpl;
 import fi.fmi.avi.model.immutable.PhenomenonGeometryImpl;
 import fi.fmi.avi.model.immutable.PhenomenonGeometryWithHeightImpl;
 import fi.fmi.avi.model.immutable.UnitPropertyGroupImpl;
+import fi.fmi.avi.model.immutable.ValueEquality;
 import fi.fmi.avi.model.sigmet.Reference;
 import fi.fmi.avi.model.sigmet.SIGMET;
 import fi.fmi.avi.model.sigmet.VAInfo;
@@ -19,6 +20,7 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.UnaryOperator;
 
 import static java.util.Objects.requireNonNull;
@@ -36,6 +38,23 @@ import static java.util.Objects.requireNonNull;
 public abstract class SIGMETImpl implements SIGMET, Serializable {
     private static final long serialVersionUID = -5959366555363410747L;
 
+    private static final ValueEquality<SIGMETImpl> EQUALITY = AviationWeatherMessageBuilderHelper.equality().and(//
+            SIGMETImpl::getIssuingAirTrafficServicesUnit, //
+            SIGMETImpl::getMeteorologicalWatchOffice, //
+            SIGMETImpl::getSequenceNumber, //
+            SIGMETImpl::getValidityPeriod, //
+            SIGMETImpl::getAirspace, //
+            SIGMETImpl::getAnalysisGeometries, //
+            SIGMETImpl::isCancelMessage, //
+            SIGMETImpl::getPhenomenonType, //
+            SIGMETImpl::getPhenomenon, //
+            SIGMETImpl::getCancelledReference, //
+            SIGMETImpl::getForecastGeometries, //
+            SIGMETImpl::getVAInfo);
+
+    private transient int hashCode;
+    private transient UUID contentFingerprint;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -88,6 +107,36 @@ public abstract class SIGMETImpl implements SIGMET, Serializable {
                 || (this.getCancelledReference().get().getValidityPeriod().isComplete());
     }
 
+    /**
+     * Returns a 128-bit fingerprint of the content of this message, computed on first call.
+     * See {@link ValueEquality#fingerprint(Object)}.
+     *
+     * @return content fingerprint of this message
+     */
+    public UUID contentFingerprint() {
+        UUID result = contentFingerprint;
+        if (result == null) {
+            result = ValueEquality.fingerprint(this);
+            contentFingerprint = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = EQUALITY.hashCode(this);
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return EQUALITY.equals(this, obj);
+    }
+
     public static class Builder extends SIGMETImpl_Builder {
 
         Builder() {
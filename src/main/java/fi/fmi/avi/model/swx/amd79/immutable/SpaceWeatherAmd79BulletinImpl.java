@@ -15,6 +15,8 @@ import fi.fmi.avi.model.swx.amd82.SpaceWeatherAmd82Bulletin;
 import org.inferred.freebuilder.FreeBuilder;
 
 import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -88,6 +90,39 @@ public abstract class SpaceWeatherAmd79BulletinImpl implements SpaceWeatherAmd79
             return builder;
         }
 
+        /**
+         * Completes the bulletin issue time near provided {@code reference}, and all time references of the contained messages using the
+         * completed bulletin issue time as reference. Equivalent to {@link #withAllTimesComplete(ZonedDateTime, boolean)
+         * withAllTimesComplete(reference, false)}.
+         *
+         * @param reference reference time to complete the bulletin issue time near
+         * @return this builder
+         */
+        public Builder withAllTimesComplete(final ZonedDateTime reference) {
+            return withAllTimesComplete(reference, false);
+        }
+
+        /**
+         * Completes the bulletin issue time near provided {@code reference}, and all time references of the contained messages using the
+         * completed bulletin issue time as reference. The bulletin issue time is resolved only once, and messages having all time references
+         * complete are left untouched.
+         *
+         * @param reference reference time to complete the bulletin issue time near
+         * @param parallel  whether to complete the messages in parallel
+         * @return this builder
+         * @see MeteorologicalBulletinBuilderHelper#withAllTimesComplete(List, ZonedDateTime, java.util.function.BiFunction, boolean)
+         */
+        public Builder withAllTimesComplete(final ZonedDateTime reference, final boolean parallel) {
+            Objects.requireNonNull(reference, "reference");
+            final BulletinHeading heading = MeteorologicalBulletinBuilderHelper.withCompleteIssueTimeNear(getHeading(), reference);
+            final ZonedDateTime issueTime = heading.getIssueTime().getCompleteTime().orElse(reference);
+            final List<SpaceWeatherAdvisoryAmd79> messages = MeteorologicalBulletinBuilderHelper.withAllTimesComplete(getMessages(), issueTime,
+                    (message, messageReference) -> SpaceWeatherAdvisoryAmd79Impl.Builder.from(message).withAllTimesComplete(messageReference).build(), parallel);
+            return setHeading(heading)//
+                    .clearMessages()//
+                    .addAllMessages(messages);
+        }
+
         @Override
         @JsonDeserialize(as = BulletinHeadingImpl.class)
         public Builder setHeading(final BulletinHeading heading) {
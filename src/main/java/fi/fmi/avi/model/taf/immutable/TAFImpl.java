@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -35,6 +36,7 @@ import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
 import fi.fmi.avi.model.PartialOrCompleteTimePeriod;
 import fi.fmi.avi.model.PartialOrCompleteTimes;
 import fi.fmi.avi.model.immutable.AerodromeImpl;
+import fi.fmi.avi.model.immutable.ValueEquality;
 import fi.fmi.avi.model.taf.TAF;
 import fi.fmi.avi.model.taf.TAFAirTemperatureForecast;
 import fi.fmi.avi.model.taf.TAFBaseForecast;
@@ -54,6 +56,17 @@ public abstract class TAFImpl implements TAF, Serializable {
 
     private static final long serialVersionUID = 4002686554552796585L;
 
+    private static final ValueEquality<TAFImpl> EQUALITY = AviationWeatherMessageBuilderHelper.equality().and(//
+            TAFImpl::getAerodrome, //
+            TAFImpl::getValidityTime, //
+            TAFImpl::getBaseForecast, //
+            TAFImpl::getChangeForecasts, //
+            TAFImpl::isCancelMessage, //
+            TAFImpl::getReferredReportValidPeriod);
+
+    private transient int hashCode;
+    private transient UUID contentFingerprint;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -144,6 +157,36 @@ public abstract class TAFImpl implements TAF, Serializable {
         return this.getAerodrome().getReferencePoint().isPresent();
     }
 
+    /**
+     * Returns a 128-bit fingerprint of the content of this message, computed on first call.
+     * See {@link ValueEquality#fingerprint(Object)}.
+     *
+     * @return content fingerprint of this message
+     */
+    public UUID contentFingerprint() {
+        UUID result = contentFingerprint;
+        if (result == null) {
+            result = ValueEquality.fingerprint(this);
+            contentFingerprint = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = EQUALITY.hashCode(this);
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return EQUALITY.equals(this, obj);
+    }
+
     public static class Builder extends TAFImpl_Builder {
         @Nullable
         private Aerodrome referredReportAerodrome;
@@ -6,16 +6,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import org.unitils.thirdparty.org.apache.commons.io.IOUtils;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import fi.fmi.avi.model.AviationWeatherMessage;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
 
 public class JSONTestUtil {
 
-    public static <T extends AviationWeatherMessage> T readFromJSON(final InputStream inputStream, final Class<T> clz) throws IOException {
+    public static <T extends AviationWeatherMessageOrCollection> T readFromJSON(final InputStream inputStream, final Class<T> clz) throws IOException {
         requireNonNull(inputStream, "inputStream");
         final ObjectMapper om = new ObjectMapper();
         om.registerModule(new Jdk8Module());
@@ -23,6 +26,13 @@ public class JSONTestUtil {
         return om.readValue(inputStream, clz);
     }
 
+    public static String readToString(final InputStream inputStream) throws IOException {
+        requireNonNull(inputStream, "inputStream");
+        try (InputStream is = inputStream) {
+            return IOUtils.toString(is, "UTF-8");
+        }
+    }
+
     public static void printAsJson(final AviationWeatherMessage message, final OutputStream outputStream) throws IOException {
         requireNonNull(message, "message");
         requireNonNull(outputStream, "outputStream");
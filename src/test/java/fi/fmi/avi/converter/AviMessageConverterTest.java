@@ -0,0 +1,130 @@
+package fi.fmi.avi.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AviMessageConverterTest {
+
+    private static final ConversionSpecification<String, Integer> STRING_TO_LENGTH = new ConversionSpecification<>(String.class, Integer.class, null,
+            "length");
+    private static final ConversionSpecification<String, Integer> STRING_TO_HASH = new ConversionSpecification<>(String.class, Integer.class, null, "hash");
+
+    private AviMessageConverter converter;
+
+    private static <T> ConversionResult<T> success(final T value) {
+        final ConversionResult<T> result = new ConversionResult<>();
+        result.setConvertedMessage(value);
+        return result;
+    }
+
+    @Before
+    public void setUp() {
+        converter = new AviMessageConverter();
+        converter.setMessageSpecificConverter(STRING_TO_LENGTH, (input, hints) -> success(input.length()));
+    }
+
+    private static List<Integer> convertedValues(final List<ConversionResult<Integer>> results) {
+        return results.stream().map(result -> result.getConvertedMessage().orElse(null)).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testLookupWithEqualSpecification() {
+        final ConversionSpecification<String, Integer> equalSpec = new ConversionSpecification<>(String.class, Integer.class, null, "length");
+        assertTrue(converter.isSpecificationSupported(equalSpec));
+        assertSame(converter.getConverter(STRING_TO_LENGTH), converter.getConverter(equalSpec));
+        assertEquals(Integer.valueOf(4), converter.convertMessage("EFHK", equalSpec).getConvertedMessage().orElse(null));
+    }
+
+    @Test
+    public void testUnsupportedSpecification() {
+        assertFalse(converter.isSpecificationSupported(STRING_TO_HASH));
+        assertNull(converter.getConverter(STRING_TO_HASH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertWithUnsupportedSpecification() {
+        converter.convertMessage("EFHK", STRING_TO_HASH);
+    }
+
+    @Test
+    public void testSupportedSpecificationsSnapshot() {
+        converter.setMessageSpecificConverter(STRING_TO_HASH, (input, hints) -> success(input.hashCode()));
+        assertEquals(2, converter.getSupportedSpecifications().size());
+        assertTrue(converter.getSupportedSpecifications().contains(STRING_TO_HASH));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSupportedSpecificationsUnmodifiable() {
+        converter.getSupportedSpecifications().remove(STRING_TO_LENGTH);
+    }
+
+    @Test
+    public void testConvertMessages() {
+        final List<ConversionResult<Integer>> results = converter.convertMessages(Arrays.asList("EFHK", "ESSA", "EETN01"), STRING_TO_LENGTH,
+                ConversionHints.EMPTY);
+        assertEquals(Arrays.asList(4, 4, 6), convertedValues(results));
+    }
+
+    @Test
+    public void testConvertMessagesInParallelKeepsOrderAndIsolatesFailures() {
+        final List<String> inputs = Arrays.asList("A", "BB", null, "DDDD", "EEEEE");
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final List<ConversionResult<Integer>> results = converter.convertMessages(inputs, STRING_TO_LENGTH, ConversionHints.EMPTY, executor);
+            assertEquals(Arrays.asList(1, 2, null, 4, 5), convertedValues(results));
+            assertEquals(ConversionResult.Status.FAIL, results.get(2).getStatus());
+            assertEquals(1, results.get(2).getConversionIssues().size());
+            assertEquals(ConversionResult.Status.SUCCESS, results.get(4).getStatus());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConvertMessageStream() {
+        final List<Integer> values = converter.convertMessages(Stream.of("A", "BB", "CCC").parallel(), STRING_TO_LENGTH, null)
+                .map(result -> result.getConvertedMessage().orElse(null))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(1, 2, 3), values);
+    }
+
+    @Test
+    public void testConvertMessageAsync() throws Exception {
+        final CompletableFuture<ConversionResult<Integer>> future = converter.convertMessageAsync("EFHK", STRING_TO_LENGTH, ConversionHints.EMPTY);
+        assertEquals(Integer.valueOf(4), future.get().getConvertedMessage().orElse(null));
+    }
+
+    @Test
+    public void testConvertMessageAsyncWithCustomExecutor() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "conversion"));
+        try {
+            converter.setAsyncExecutor(executor);
+            converter.setMessageSpecificConverter(STRING_TO_HASH, (input, hints) -> success(Thread.currentThread().getName().hashCode()));
+            assertEquals(Integer.valueOf("conversion".hashCode()),
+                    converter.convertMessageAsync("EFHK", STRING_TO_HASH, null).get().getConvertedMessage().orElse(null));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void testConvertMessageAsyncCompletesExceptionally() throws Exception {
+        converter.convertMessageAsync(null, STRING_TO_LENGTH, null).get();
+    }
+
+}
@@ -1,9 +1,14 @@
 package fi.fmi.avi.converter;
 
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertSame;
 import static junit.framework.TestCase.assertTrue;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import org.junit.Test;
@@ -73,4 +78,87 @@ public class ConversionChainTest {
         assertTrue(result.getConvertedMessage().isPresent());
     }
 
+    @Test
+    public void testStepTimings() throws Exception {
+        final InputStream is = JSONConverterTest.class.getResourceAsStream("taf1.json");
+        Objects.requireNonNull(is);
+        final String input = IOUtils.toString(is, "UTF-8");
+        is.close();
+        final ConversionChain<String, String> chain = new ConversionChainBuilder<>(this.converter, JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .build(JSONConverter.TAF_POJO_TO_JSON_STRING);
+        chain.convertMessage(input, ConversionHints.EMPTY);
+        chain.convertMessage(input, ConversionHints.EMPTY);
+        final List<ConversionChain.StepTiming> timings = chain.getStepTimings();
+        assertEquals(2, timings.size());
+        assertEquals(JSONConverter.JSON_STRING_TO_TAF_POJO, timings.get(0).getSpecification());
+        assertEquals(2, timings.get(0).getInvocations());
+        assertEquals(2, timings.get(1).getInvocations());
+        assertTrue(timings.get(1).getTotalNanos() > 0);
+    }
+
+    @Test
+    public void testMetricsListener() throws Exception {
+        final InputStream is = JSONConverterTest.class.getResourceAsStream("taf1.json");
+        Objects.requireNonNull(is);
+        final String input = IOUtils.toString(is, "UTF-8");
+        is.close();
+        final InMemoryConversionMetrics metrics = new InMemoryConversionMetrics();
+        final ConversionChain<String, String> chain = new ConversionChainBuilder<>(this.converter, JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .withMetricsListener(metrics)//
+                .build(JSONConverter.TAF_POJO_TO_JSON_STRING);
+        chain.convertMessage(input, ConversionHints.EMPTY);
+        assertEquals(1, metrics.getSnapshot(JSONConverter.JSON_STRING_TO_TAF_POJO).getCount());
+        assertEquals(input.length(), metrics.getSnapshot(JSONConverter.JSON_STRING_TO_TAF_POJO).getTotalInputSize());
+        assertEquals(1, metrics.getSnapshot(JSONConverter.TAF_POJO_TO_JSON_STRING).getStatusCount(ConversionResult.Status.SUCCESS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncompatibleStepsRejectedAtBuildTime() {
+        new ConversionChainBuilder<>(this.converter, JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .withMutator(String::length, String.class, Integer.class)//
+                .build(JSONConverter.TAF_POJO_TO_JSON_STRING);
+    }
+
+    @Test
+    public void testNullInputIsPassedToInitialConverter() {
+        final ConversionChain<String, String> chain = new ConversionChainBuilder<>(this.converter, JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .build(JSONConverter.TAF_POJO_TO_JSON_STRING);
+        final ConversionResult<String> result = chain.convertMessage(null, ConversionHints.EMPTY);
+        assertSame(ConversionResult.Status.FAIL, result.getStatus());
+        assertFalse(result.getConversionIssues().isEmpty());
+        assertFalse(result.getConvertedMessage().isPresent());
+        assertEquals(1, chain.getStepTimings().get(0).getInvocations());
+        assertEquals(0, chain.getStepTimings().get(1).getInvocations());
+    }
+
+    @Test
+    public void testPipelinedChain() throws Exception {
+        final InputStream is = JSONConverterTest.class.getResourceAsStream("taf1.json");
+        Objects.requireNonNull(is);
+        final String input = IOUtils.toString(is, "UTF-8");
+        is.close();
+        final List<String> inputs = new ArrayList<>(Collections.nCopies(20, input));
+        inputs.set(5, "{ not json");
+        final PipelinedConversionChain<String, String> chain = new ConversionChainBuilder<>(this.converter, JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .withMutator(taf -> TAFImpl.Builder.from(taf).setRemarks(Collections.singletonList(taf.getIssueTime().toString())).build(), TAF.class,
+                        TAF.class)//
+                .buildPipelined(JSONConverter.TAF_POJO_TO_JSON_STRING, 2);
+        final List<ConversionResult<String>> results = chain.convertMessages(inputs, ConversionHints.EMPTY);
+        assertEquals(20, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            if (i == 5) {
+                assertSame(ConversionResult.Status.FAIL, results.get(i).getStatus());
+            } else {
+                assertSame(ConversionResult.Status.SUCCESS, results.get(i).getStatus());
+                assertTrue(results.get(i).getConvertedMessage().isPresent());
+            }
+        }
+        final List<PipelinedConversionChain.StageStatistics> statistics = chain.getStageStatistics();
+        assertEquals(3, statistics.size());
+        assertEquals(20, statistics.get(0).getProcessed());
+        assertEquals(0, statistics.get(1).getQueueDepth());
+        assertTrue(statistics.get(1).getPeakQueueDepth() <= 2);
+        assertEquals(19, chain.getChain().getStepTimings().get(2).getInvocations());
+    }
+
 }
@@ -0,0 +1,112 @@
+package fi.fmi.avi.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import fi.fmi.avi.model.MessageType;
+
+public class ConversionHintsTest {
+
+    private static final ConversionHints.Key CUSTOM_KEY = new ConversionHints.Key(3) {
+        @Override
+        public boolean isCompatibleValue(final Object value) {
+            return value instanceof String;
+        }
+    };
+
+    @Test
+    public void testImmutablePresetsAreShared() {
+        assertSame(ConversionHints.TAF, ConversionHints.immutableCopyOf(ConversionHints.TAF));
+        assertSame(ConversionHints.STRICT_PARSING, ConversionHints.immutableCopyOf(ConversionHints.STRICT_PARSING));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutablePresetCannotBeModified() {
+        ConversionHints.TAF.put(ConversionHints.KEY_PARSING_MODE, ConversionHints.VALUE_PARSING_MODE_STRICT);
+    }
+
+    @Test
+    public void testBuiltInAndCustomKeysDoNotCollide() {
+        final ConversionHints hints = new ConversionHints();
+        hints.put(ConversionHints.KEY_PARSING_MODE, ConversionHints.VALUE_PARSING_MODE_ALLOW_ANY_ERRORS);
+        hints.put(CUSTOM_KEY, "custom");
+        assertEquals(2, hints.size());
+        assertSame(ConversionHints.VALUE_PARSING_MODE_ALLOW_ANY_ERRORS, hints.get(ConversionHints.KEY_PARSING_MODE));
+        assertEquals("custom", hints.get(CUSTOM_KEY));
+        hints.remove(ConversionHints.KEY_PARSING_MODE);
+        assertFalse(hints.containsKey(ConversionHints.KEY_PARSING_MODE));
+        assertTrue(hints.containsKey(CUSTOM_KEY));
+    }
+
+    @Test
+    public void testNullValue() {
+        final ConversionHints hints = new ConversionHints();
+        hints.put(ConversionHints.KEY_TRANSLATION_TIME, null);
+        assertTrue(hints.containsKey(ConversionHints.KEY_TRANSLATION_TIME));
+        assertNull(hints.get(ConversionHints.KEY_TRANSLATION_TIME));
+        assertEquals(1, hints.size());
+    }
+
+    @Test
+    public void testNullKeyIsNotFound() {
+        final ConversionHints hints = new ConversionHints();
+        hints.put(ConversionHints.KEY_MESSAGE_TYPE, MessageType.TAF);
+        assertFalse(hints.containsKey(null));
+        assertNull(hints.get(null));
+        assertNull(hints.get((ConversionHints.Key) null));
+        assertNull(hints.remove(null));
+    }
+
+    @Test
+    public void testEqualsAndHashCodeFollowMapContract() {
+        final ConversionHints hints = new ConversionHints();
+        hints.put(ConversionHints.KEY_MESSAGE_TYPE, MessageType.TAF);
+        hints.put(CUSTOM_KEY, "custom");
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(ConversionHints.KEY_MESSAGE_TYPE, MessageType.TAF);
+        map.put(CUSTOM_KEY, "custom");
+        assertEquals(map, hints);
+        assertEquals(hints, map);
+        assertEquals(map.hashCode(), hints.hashCode());
+        assertEquals(hints, ConversionHints.immutableCopyOf(hints));
+        assertEquals(map.entrySet(), hints.entrySet());
+    }
+
+    @Test
+    public void testOverlay() {
+        final ConversionHints base = new ConversionHints();
+        base.put(ConversionHints.KEY_MESSAGE_TYPE, MessageType.METAR);
+        base.put(ConversionHints.KEY_PARSING_MODE, ConversionHints.VALUE_PARSING_MODE_STRICT);
+        final ConversionHints overlay = base.overlay(ConversionHints.TAF);
+        assertEquals(MessageType.TAF, overlay.get(ConversionHints.KEY_MESSAGE_TYPE));
+        assertSame(ConversionHints.VALUE_PARSING_MODE_STRICT, overlay.get(ConversionHints.KEY_PARSING_MODE));
+        assertEquals(MessageType.METAR, base.get(ConversionHints.KEY_MESSAGE_TYPE));
+        assertSame(ConversionHints.TAF, ConversionHints.EMPTY.overlay(ConversionHints.TAF));
+        assertSame(ConversionHints.TAF, ConversionHints.TAF.overlay(null));
+    }
+
+    @Test
+    public void testKeySetIteratorRemove() {
+        final ConversionHints hints = new ConversionHints();
+        hints.put(ConversionHints.KEY_MESSAGE_TYPE, MessageType.TAF);
+        hints.put(CUSTOM_KEY, "custom");
+        final Iterator<Object> keys = hints.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next() == CUSTOM_KEY) {
+                keys.remove();
+            }
+        }
+        assertEquals(1, hints.size());
+        assertFalse(hints.containsKey(CUSTOM_KEY));
+    }
+
+}
@@ -0,0 +1,114 @@
+package fi.fmi.avi.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConversionResultCacheTest {
+
+    private static final ConversionSpecification<String, Integer> STRING_TO_LENGTH = new ConversionSpecification<>(String.class, Integer.class, null,
+            "length");
+    private static final ConversionSpecification<byte[], Integer> BYTES_TO_LENGTH = new ConversionSpecification<>(byte[].class, Integer.class, null,
+            "length");
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private <S> AviMessageSpecificConverter<S, Integer> countingConverter(final java.util.function.ToIntFunction<S> function) {
+        return (input, hints) -> {
+            invocations.incrementAndGet();
+            final ConversionResult<Integer> result = new ConversionResult<>();
+            result.setConvertedMessage(function.applyAsInt(input));
+            return result;
+        };
+    }
+
+    @Before
+    public void setUp() {
+        invocations.set(0);
+    }
+
+    @Test
+    public void testRepeatedInputIsConvertedOnce() {
+        final ConversionResultCache cache = new ConversionResultCache(10, Duration.ofMinutes(1));
+        final AviMessageSpecificConverter<String, Integer> converter = cache.decorate(STRING_TO_LENGTH, countingConverter(String::length));
+        final ConversionResult<Integer> first = converter.convertMessage("TAF EFHK", ConversionHints.TAF);
+        final ConversionResult<Integer> second = converter.convertMessage(new String("TAF EFHK"), ConversionHints.modifiableCopyOf(ConversionHints.TAF));
+        assertEquals(1, invocations.get());
+        assertNotSame(first, second);
+        assertEquals(Integer.valueOf(8), second.getConvertedMessage().orElse(null));
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(1, cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void testReturnedResultIsNotShared() {
+        final ConversionResultCache cache = new ConversionResultCache(10, Duration.ofMinutes(1));
+        final AviMessageSpecificConverter<String, Integer> converter = cache.decorate(STRING_TO_LENGTH, countingConverter(String::length));
+        converter.convertMessage("TAF EFHK", null).addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, "modified"));
+        assertEquals(0, converter.convertMessage("TAF EFHK", null).getConversionIssues().size());
+    }
+
+    @Test
+    public void testDifferentHintsAreCachedSeparately() {
+        final ConversionResultCache cache = new ConversionResultCache(10, Duration.ofMinutes(1));
+        final AviMessageSpecificConverter<String, Integer> converter = cache.decorate(STRING_TO_LENGTH, countingConverter(String::length));
+        converter.convertMessage("TAF EFHK", ConversionHints.TAF);
+        converter.convertMessage("TAF EFHK", ConversionHints.METAR);
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testBypassHint() {
+        final ConversionResultCache cache = new ConversionResultCache(10, Duration.ofMinutes(1));
+        final AviMessageSpecificConverter<String, Integer> converter = cache.decorate(STRING_TO_LENGTH, countingConverter(String::length));
+        final ConversionHints bypass = new ConversionHints(ConversionHints.KEY_CONVERSION_CACHE, ConversionHints.VALUE_CONVERSION_CACHE_BYPASS);
+        converter.convertMessage("TAF EFHK", bypass);
+        converter.convertMessage("TAF EFHK", bypass);
+        assertEquals(2, invocations.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        final ConversionResultCache cache = new ConversionResultCache(2, Duration.ofMinutes(1));
+        final AviMessageSpecificConverter<String, Integer> converter = cache.decorate(STRING_TO_LENGTH, countingConverter(String::length));
+        converter.convertMessage("A", null);
+        converter.convertMessage("BB", null);
+        converter.convertMessage("A", null);
+        converter.convertMessage("CCC", null);
+        converter.convertMessage("A", null);
+        assertEquals(3, invocations.get());
+        converter.convertMessage("BB", null);
+        assertEquals(4, invocations.get());
+        assertEquals(2, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testExpiredResultIsNotReturned() throws Exception {
+        final ConversionResultCache cache = new ConversionResultCache(10, Duration.ofMillis(1));
+        final AviMessageSpecificConverter<String, Integer> converter = cache.decorate(STRING_TO_LENGTH, countingConverter(String::length));
+        converter.convertMessage("A", null);
+        Thread.sleep(5);
+        converter.convertMessage("A", null);
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testByteArrayInputIsKeyedByContent() {
+        final ConversionResultCache cache = new ConversionResultCache(10, Duration.ofMinutes(1));
+        final AviMessageSpecificConverter<byte[], Integer> converter = cache.decorate(BYTES_TO_LENGTH, countingConverter(bytes -> bytes.length));
+        final byte[] input = { 1, 2, 3 };
+        converter.convertMessage(input, null);
+        converter.convertMessage(new byte[] { 1, 2, 3 }, null);
+        assertEquals(1, invocations.get());
+        input[0] = 4;
+        converter.convertMessage(input, null);
+        assertEquals(2, invocations.get());
+    }
+
+}
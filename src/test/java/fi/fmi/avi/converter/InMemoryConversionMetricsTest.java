@@ -0,0 +1,67 @@
+package fi.fmi.avi.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class InMemoryConversionMetricsTest {
+
+    private static final ConversionSpecification<String, String> TRIM = new ConversionSpecification<>(String.class, String.class, null, "trim");
+
+    @Test
+    public void testConverterReportsMetrics() {
+        final AviMessageConverter converter = new AviMessageConverter();
+        converter.setMessageSpecificConverter(TRIM, (input, hints) -> {
+            final ConversionResult<String> result = new ConversionResult<>();
+            if (input.isEmpty()) {
+                result.addIssue(new ConversionIssue(ConversionIssue.Type.MISSING_DATA, "Empty message"));
+            } else {
+                result.setConvertedMessage(input.trim());
+            }
+            return result;
+        });
+        final InMemoryConversionMetrics metrics = new InMemoryConversionMetrics();
+        converter.convertMessage(" EFHK ", TRIM);
+        converter.setMetricsListener(metrics);
+        converter.convertMessage(" EFHK ", TRIM);
+        converter.convertMessages(Arrays.asList("EFHA ", ""), TRIM, null);
+
+        final InMemoryConversionMetrics.Snapshot snapshot = metrics.getSnapshot(TRIM);
+        assertEquals(3, snapshot.getCount());
+        assertEquals(11, snapshot.getTotalInputSize());
+        assertEquals(8, snapshot.getTotalOutputSize());
+        assertEquals(2, snapshot.getStatusCount(ConversionResult.Status.SUCCESS));
+        assertEquals(1, snapshot.getStatusCount(ConversionResult.Status.FAIL));
+        assertEquals(1, snapshot.getIssueCount(ConversionIssue.Type.MISSING_DATA));
+        assertTrue(snapshot.getP99Nanos() <= snapshot.getMaxNanos());
+
+        metrics.reset();
+        assertEquals(0, metrics.getSnapshot(TRIM).getCount());
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testHistogramBucketBounds() {
+        for (final long value : new long[] { 0, 1, 31, 32, 33, 63, 64, 1_000_001, Long.MAX_VALUE }) {
+            final int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.highestValueOf(bucket) >= value);
+            assertTrue(bucket == 0 || LatencyHistogram.highestValueOf(bucket - 1) < value);
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package fi.fmi.avi.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class IssueListTest {
+
+    @Test
+    public void testCountsFollowModifications() {
+        final IssueList issues = new IssueList();
+        assertFalse(issues.hasErrors());
+        issues.add(ConversionIssue.Severity.WARNING, "warning");
+        issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.MISSING_DATA, "error");
+        assertTrue(issues.hasErrors());
+        assertTrue(issues.hasWarnings());
+        assertEquals(1, issues.getIssueCount(ConversionIssue.Type.MISSING_DATA));
+
+        issues.set(1, new ConversionIssue(ConversionIssue.Severity.INFO, ConversionIssue.Type.OTHER, "info"));
+        assertFalse(issues.hasErrors());
+        assertEquals(0, issues.getIssueCount(ConversionIssue.Type.MISSING_DATA));
+
+        issues.removeIf(issue -> issue.getSeverity() == ConversionIssue.Severity.WARNING);
+        assertFalse(issues.hasWarnings());
+        assertEquals(1, issues.getIssueCount(ConversionIssue.Severity.INFO));
+        assertEquals(1, issues.getIssues(ConversionIssue.Severity.INFO).size());
+        assertTrue(issues.getIssues(ConversionIssue.Severity.ERROR).isEmpty());
+    }
+
+    @Test
+    public void testBoundedListAggregatesAndDrops() {
+        final IssueList issues = IssueList.bounded(2);
+        for (int i = 0; i < 5; i++) {
+            issues.add(ConversionIssue.Severity.WARNING, "repeated");
+        }
+        issues.add(ConversionIssue.Severity.WARNING, "second");
+        issues.add(ConversionIssue.Severity.ERROR, "dropped");
+
+        assertEquals(2, issues.size());
+        assertEquals(5, issues.get(0).getOccurrences());
+        assertEquals(6, issues.getIssueCount(ConversionIssue.Severity.WARNING));
+        assertTrue(issues.hasErrors());
+        assertEquals(1, issues.getDroppedIssueCount());
+
+        issues.remove(1);
+        issues.add(ConversionIssue.Severity.WARNING, "repeated");
+        assertEquals(6, issues.get(0).getOccurrences());
+        assertTrue(issues.hasErrors());
+    }
+
+    @Test
+    public void testBoundedResultStatus() {
+        final ConversionResult<String> result = new ConversionResult<>(1);
+        result.setConvertedMessage("message");
+        result.addIssue(new ConversionIssue(ConversionIssue.Severity.WARNING, "first"));
+        result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, "second"));
+        assertEquals(1, result.getConversionIssues().size());
+        assertEquals(ConversionResult.Status.WITH_ERRORS, result.getStatus());
+    }
+
+    @Test
+    public void testCopyKeepsLimitAndDroppedCounts() {
+        final IssueList issues = IssueList.bounded(1);
+        issues.add(ConversionIssue.Severity.WARNING, ConversionIssue.Type.SYNTAX, "stored");
+        issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.MISSING_DATA, "dropped");
+
+        final IssueList copy = IssueList.copyOf(issues);
+        assertTrue(copy.isBounded());
+        assertEquals(issues, copy);
+        assertEquals(1, copy.getDroppedIssueCount());
+        assertTrue(copy.hasErrors());
+        assertEquals(1, copy.getIssueCount(ConversionIssue.Type.MISSING_DATA));
+
+        copy.add(ConversionIssue.Severity.INFO, "also dropped");
+        assertEquals(1, copy.size());
+        assertEquals(2, copy.getDroppedIssueCount());
+        assertEquals(1, issues.getDroppedIssueCount());
+    }
+
+    @Test
+    public void testCopiedResultKeepsIssueCounts() {
+        final ConversionResult<String> result = new ConversionResult<>(1);
+        result.setConvertedMessage("message");
+        result.addIssue(new ConversionIssue(ConversionIssue.Severity.WARNING, ConversionIssue.Type.SYNTAX, "first"));
+        result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.MISSING_DATA, "second"));
+
+        final ConversionResult<String> copy = new ConversionResult<>(result);
+        assertEquals(ConversionResult.Status.WITH_ERRORS, copy.getStatus());
+        assertEquals(1, copy.getConversionIssues().size());
+        assertEquals(1, copy.getIssueCount(ConversionIssue.Type.MISSING_DATA));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedListRequiresPositiveLimit() {
+        IssueList.bounded(0);
+    }
+
+}
@@ -0,0 +1,71 @@
+package fi.fmi.avi.converter.json;
+
+import static fi.fmi.avi.JSONTestUtil.readFromJSON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+import fi.fmi.avi.model.taf.TAF;
+import fi.fmi.avi.model.taf.TAFBulletin;
+import fi.fmi.avi.model.taf.immutable.TAFBulletinImpl;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class BinaryJSONConverterTest {
+
+    private static <T extends AviationWeatherMessageOrCollection> void assertRoundTrip(final JSONDataFormat format, final T message, final Class<T> clz,
+            final Class<? extends T> implClz) {
+        final ConversionResult<byte[]> encoded = new JSONBytesSerializer<T>(format).convertMessage(message, ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.SUCCESS, encoded.getStatus());
+        final byte[] json = new JSONBytesSerializer<T>().convertMessage(message, ConversionHints.EMPTY).getConvertedMessage().get();
+        assertTrue(encoded.getConvertedMessage().get().length < json.length);
+
+        final ConversionResult<T> decoded = new JSONBytesParser<>(format, clz, implClz).convertMessage(encoded.getConvertedMessage().get(),
+                ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.SUCCESS, decoded.getStatus());
+        assertEquals(message, decoded.getConvertedMessage().get());
+    }
+
+    @Test
+    @Parameters({ "SMILE", "CBOR" })
+    public void testTAFRoundTrip(final JSONDataFormat format) throws Exception {
+        assertRoundTrip(format, readFromJSON(BinaryJSONConverterTest.class.getResourceAsStream("taf1.json"), TAFImpl.class), TAF.class, TAFImpl.class);
+    }
+
+    @Test
+    @Parameters({ "SMILE", "CBOR" })
+    public void testTAFBulletinRoundTrip(final JSONDataFormat format) throws Exception {
+        assertRoundTrip(format, readFromJSON(BinaryJSONConverterTest.class.getResourceAsStream("tafBulletin1.json"), TAFBulletinImpl.class), TAFBulletin.class, TAFBulletinImpl.class);
+    }
+
+    @Test
+    public void testJSONIsNotValidSmile() throws Exception {
+        final byte[] json = new JSONBytesSerializer<TAF>().convertMessage(readFromJSON(BinaryJSONConverterTest.class.getResourceAsStream("taf1.json"), TAFImpl.class), ConversionHints.EMPTY)
+                .getConvertedMessage()
+                .get();
+        assertEquals(ConversionResult.Status.FAIL,
+                new JSONBytesParser<>(JSONDataFormat.SMILE, TAF.class, TAFImpl.class).convertMessage(json, ConversionHints.EMPTY).getStatus());
+    }
+
+    @Test
+    public void testBinaryFormatCannotBeWrittenToWriter() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final ConversionResult<StringWriter> result = new JSONBytesSerializer<TAF>(JSONDataFormat.CBOR).writeMessage(
+                readFromJSON(BinaryJSONConverterTest.class.getResourceAsStream("taf1.json"), TAFImpl.class), writer, ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.FAIL, result.getStatus());
+        assertEquals(1, result.getConversionIssues().size());
+        assertFalse(result.getConvertedMessage().isPresent());
+        assertEquals("", writer.toString());
+    }
+
+}
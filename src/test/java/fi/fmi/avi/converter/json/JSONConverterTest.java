@@ -33,13 +33,19 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.support.AnnotationConfigContextLoader;
 import org.unitils.thirdparty.org.apache.commons.io.IOUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -113,6 +119,69 @@ public class JSONConverterTest {
         assertSuccess(result);
     }
 
+    @Test
+    public void testTAFBytesRoundTrip() throws Exception {
+        final String input = readResource("taf1.json");
+        final ConversionResult<TAF> parsed = converter.convertMessage(input.getBytes(StandardCharsets.UTF_8), JSONConverter.JSON_BYTES_TO_TAF_POJO,
+                ConversionHints.EMPTY);
+        assertSuccess(parsed);
+        final TAF taf = parsed.getConvertedMessage().get();
+        final ConversionResult<byte[]> serialized = converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_BYTES, ConversionHints.EMPTY);
+        assertSuccess(serialized);
+        final ConversionHints compact = new ConversionHints(ConversionHints.KEY_JSON_OUTPUT_FORMAT, ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT);
+        assertEquals(converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_STRING, compact).getConvertedMessage().get(),
+                new String(serialized.getConvertedMessage().get(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCompactOutputFormat() throws Exception {
+        final TAFBulletin bulletin = converter.convertMessage(readResource("tafBulletin1.json"), JSONConverter.JSON_STRING_TO_TAF_BULLETIN_POJO)
+                .getConvertedMessage()
+                .get();
+        final String pretty = converter.convertMessage(bulletin, JSONConverter.TAF_BULLETIN_POJO_TO_JSON_STRING).getConvertedMessage().get();
+        final String compact = converter.convertMessage(bulletin, JSONConverter.TAF_BULLETIN_POJO_TO_JSON_STRING,
+                new ConversionHints(ConversionHints.KEY_JSON_OUTPUT_FORMAT, ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT)).getConvertedMessage().get();
+        assertTrue(compact.length() < pretty.length());
+        assertFalse(compact.contains("\n"));
+        final ObjectMapper om = new ObjectMapper();
+        assertEquals(om.readTree(pretty), om.readTree(compact));
+    }
+
+    @Test
+    public void testTAFBulletinBytesParsing() throws Exception {
+        final byte[] input = readResource("tafBulletin1.json").getBytes(StandardCharsets.UTF_8);
+        final ConversionResult<TAFBulletin> result = converter.convertMessage(input, JSONConverter.JSON_BYTES_TO_TAF_BULLETIN_POJO, ConversionHints.EMPTY);
+        assertSuccess(result);
+    }
+
+    @Test
+    public void testStreamingParsingAndWriting() throws Exception {
+        final byte[] bytes = readResource("taf1.json").getBytes(StandardCharsets.UTF_8);
+        final JSONBytesParser<TAF> parser = new JSONBytesParser<>(TAF.class, TAFImpl.class);
+        final ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        final ConversionResult<TAF> fromHeap = parser.convertMessage(heapBuffer, ConversionHints.EMPTY);
+        final ConversionResult<TAF> fromDirect = parser.convertMessage(directBuffer, ConversionHints.EMPTY);
+        final ConversionResult<TAF> fromStream = parser.convertMessage(new ByteArrayInputStream(bytes), ConversionHints.EMPTY);
+        assertSuccess(fromHeap);
+        assertSuccess(fromDirect);
+        assertSuccess(fromStream);
+        assertEquals(0, heapBuffer.position());
+        assertEquals(0, directBuffer.position());
+        assertEquals(fromHeap.getConvertedMessage(), fromDirect.getConvertedMessage());
+        assertEquals(fromHeap.getConvertedMessage(), fromStream.getConvertedMessage());
+
+        final JSONBytesSerializer<TAF> serializer = new JSONBytesSerializer<>();
+        final TAF taf = fromHeap.getConvertedMessage().get();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ConversionResult<ByteArrayOutputStream> streamResult = serializer.writeMessage(taf, out, ConversionHints.EMPTY);
+        assertSuccess(streamResult);
+        final StringWriter writer = new StringWriter();
+        assertSuccess(serializer.writeMessage(taf, writer, ConversionHints.EMPTY));
+        assertEquals(writer.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
     @Test
     public void testTAFSerialization() throws Exception {
         final ObjectMapper om;
@@ -0,0 +1,100 @@
+package fi.fmi.avi.converter.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+import org.junit.Test;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessage;
+import fi.fmi.avi.model.MessageType;
+import fi.fmi.avi.model.immutable.ValueInterner;
+
+public class JSONMessageProbeTest {
+
+    private final JSONMessageProbe probe = new JSONMessageProbe();
+
+    private JSONMessageProbe.Summary probe(final String resource) throws IOException {
+        return probe(resource, ConversionHints.EMPTY);
+    }
+
+    private JSONMessageProbe.Summary probe(final String resource, final ConversionHints hints) throws IOException {
+        try (InputStream is = JSONMessageProbeTest.class.getResourceAsStream(resource)) {
+            Objects.requireNonNull(is);
+            final ConversionResult<JSONMessageProbe.Summary> result = probe.probe(is, hints);
+            assertEquals(ConversionResult.Status.SUCCESS, result.getStatus());
+            return result.getConvertedMessage().get();
+        }
+    }
+
+    @Test
+    public void testTAF() throws Exception {
+        final JSONMessageProbe.Summary summary = probe("taf1.json");
+        assertEquals(MessageType.TAF, summary.getMessageType().get());
+        assertFalse(summary.isBulletin());
+        assertEquals("EFVA", summary.getLocationIndicator().get());
+        assertEquals(AviationWeatherMessage.ReportStatus.NORMAL, summary.getReportStatus().get());
+        assertTrue(summary.getIssueTime().isPresent());
+    }
+
+    @Test
+    public void testMETAR() throws Exception {
+        final JSONMessageProbe.Summary summary = probe("metar1.json");
+        assertEquals(MessageType.METAR, summary.getMessageType().get());
+        assertTrue(summary.getLocationIndicator().isPresent());
+    }
+
+    @Test
+    public void testSIGMETAndAIRMET() throws Exception {
+        final JSONMessageProbe.Summary sigmet = probe("sigmet1.json");
+        assertEquals(MessageType.SIGMET, sigmet.getMessageType().get());
+        assertEquals("EHAA", sigmet.getLocationIndicator().get());
+
+        assertEquals(MessageType.AIRMET, probe("airmet2.json").getMessageType().get());
+    }
+
+    @Test
+    public void testSpaceWeatherAdvisory() throws Exception {
+        final JSONMessageProbe.Summary summary = probe("swx-amd82.json");
+        assertEquals(MessageType.SPACE_WEATHER_ADVISORY, summary.getMessageType().get());
+        assertFalse(summary.getLocationIndicator().isPresent());
+        assertEquals(ZonedDateTime.parse("2020-02-27T01:00:00Z").toInstant(), summary.getIssueTime().get().getCompleteTime().get().toInstant());
+    }
+
+    @Test
+    public void testBulletin() throws Exception {
+        final JSONMessageProbe.Summary summary = probe("tafBulletin1.json");
+        assertTrue(summary.isBulletin());
+        assertEquals(MessageType.TAF, summary.getMessageType().get());
+        assertEquals(1, summary.getMessageCount());
+        assertEquals("EFPP", summary.getBulletinHeading().get().getLocationIndicator());
+        assertFalse(summary.getLocationIndicator().isPresent());
+    }
+
+    @Test
+    public void testValueInternerHint() throws Exception {
+        final ConversionHints hints = new ConversionHints(ConversionHints.KEY_VALUE_INTERNER, new ValueInterner(100));
+        final JSONMessageProbe.Summary first = probe("tafBulletin1.json", hints);
+        final JSONMessageProbe.Summary second = probe("tafBulletin1.json", hints);
+        assertSame(first.getBulletinHeading().get(), second.getBulletinHeading().get());
+    }
+
+    @Test
+    public void testMalformedInput() {
+        final ConversionResult<JSONMessageProbe.Summary> result = probe.probe("{\"aerodrome\": {".getBytes(StandardCharsets.UTF_8), ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.FAIL, result.getStatus());
+        assertFalse(result.getConvertedMessage().isPresent());
+
+        assertEquals(ConversionResult.Status.FAIL, probe.probe("[]", ConversionHints.EMPTY).getStatus());
+    }
+
+}
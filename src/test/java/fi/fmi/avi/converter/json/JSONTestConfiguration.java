@@ -55,6 +55,15 @@ public class JSONTestConfiguration {
     @Autowired
     private AviMessageSpecificConverter<String, GenericMeteorologicalBulletin> genericBulletinJSONParser;
 
+    @Autowired
+    private AviMessageSpecificConverter<byte[], TAF> tafJSONBytesParser;
+
+    @Autowired
+    private AviMessageSpecificConverter<TAF, byte[]> tafJSONBytesSerializer;
+
+    @Autowired
+    private AviMessageSpecificConverter<byte[], TAFBulletin> tafBulletinJSONBytesParser;
+
     @Bean
     public AviMessageConverter aviMessageConverter() {
         final AviMessageConverter p = new AviMessageConverter();
@@ -71,6 +80,10 @@ public class JSONTestConfiguration {
         p.setMessageSpecificConverter(JSONConverter.TAF_BULLETIN_POJO_TO_JSON_STRING, tafBulletinJSONSerializer);
         p.setMessageSpecificConverter(JSONConverter.SIGMET_BULLETIN_POJO_TO_JSON_STRING, sigmetBulletinJSONSerializer);
         p.setMessageSpecificConverter(JSONConverter.GENERIC_METEOROLOGICAL_BULLETIN_POJO_TO_JSON_STRING, genericBulletinJSONSerializer);
+
+        p.setMessageSpecificConverter(JSONConverter.JSON_BYTES_TO_TAF_POJO, tafJSONBytesParser);
+        p.setMessageSpecificConverter(JSONConverter.JSON_BYTES_TO_TAF_BULLETIN_POJO, tafBulletinJSONBytesParser);
+        p.setMessageSpecificConverter(JSONConverter.TAF_POJO_TO_JSON_BYTES, tafJSONBytesSerializer);
         return p;
     }
 
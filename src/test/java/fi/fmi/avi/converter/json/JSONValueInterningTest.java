@@ -0,0 +1,51 @@
+package fi.fmi.avi.converter.json;
+
+import static fi.fmi.avi.JSONTestUtil.readToString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.model.MessageType;
+import fi.fmi.avi.model.bulletin.GenericMeteorologicalBulletin;
+import fi.fmi.avi.model.immutable.ValueInterner;
+import fi.fmi.avi.model.metar.METAR;
+
+public class JSONValueInterningTest {
+
+    private static String readResource(final String name) throws IOException {
+        return readToString(JSONValueInterningTest.class.getResourceAsStream(name));
+    }
+
+    @Test
+    public void testParsedValuesAreShared() throws Exception {
+        final String json = readResource("metar1.json");
+        final ValueInterner interner = new ValueInterner(1000);
+        final ConversionHints hints = new ConversionHints(ConversionHints.KEY_VALUE_INTERNER, interner);
+        final METARJSONParser parser = new METARJSONParser();
+
+        final METAR first = parser.convertMessage(json, hints).getConvertedMessage().get();
+        final METAR second = parser.convertMessage(json, hints).getConvertedMessage().get();
+        assertNotSame(first, second);
+        assertSame(first.getAerodrome(), second.getAerodrome());
+        assertSame(first.getAirTemperature().get(), second.getAirTemperature().get());
+        assertTrue(interner.getStatistics().getHitCount() > 0);
+
+        final METAR notInterned = parser.convertMessage(json, ConversionHints.EMPTY).getConvertedMessage().get();
+        assertEquals(first, notInterned);
+        assertNotSame(first.getAerodrome(), notInterned.getAerodrome());
+    }
+
+    @Test
+    public void testBuiltInMessageTypesAreShared() throws Exception {
+        final GenericMeteorologicalBulletin bulletin = new GenericMeteorologicalBulletinJSONParser().convertMessage(readResource("generic-bulletin1.json"),
+                ConversionHints.EMPTY).getConvertedMessage().get();
+        assertSame(MessageType.TAF, bulletin.getMessages().get(0).getMessageType().get());
+    }
+
+}
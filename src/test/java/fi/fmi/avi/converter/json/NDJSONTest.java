@@ -0,0 +1,75 @@
+package fi.fmi.avi.converter.json;
+
+import static fi.fmi.avi.JSONTestUtil.readFromJSON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.taf.TAF;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
+
+public class NDJSONTest {
+
+    private static TAF readTAF() throws IOException {
+        return readFromJSON(NDJSONTest.class.getResourceAsStream("taf1.json"), TAFImpl.class);
+    }
+
+    private static byte[] writeRecords(final TAF taf, final int count) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NDJSONWriter<TAF> writer = new NDJSONWriter<>(out)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(taf);
+            }
+            assertEquals(count, writer.getRecordCount());
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final TAF taf = readTAF();
+        final byte[] bytes = writeRecords(taf, 3);
+        final String[] lines = new String(bytes, StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(4, lines.length);
+        assertEquals("", lines[3]);
+        assertTrue(lines[0].startsWith("{"));
+
+        try (Stream<ConversionResult<TAF>> results = new NDJSONParser<>(TAF.class, TAFImpl.class).stream(new ByteArrayInputStream(bytes),
+                ConversionHints.EMPTY)) {
+            final List<ConversionResult<TAF>> list = results.collect(Collectors.toList());
+            assertEquals(3, list.size());
+            for (final ConversionResult<TAF> result : list) {
+                assertEquals(ConversionResult.Status.SUCCESS, result.getStatus());
+                assertEquals(taf, result.getConvertedMessage().get());
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidRecords() throws Exception {
+        final String valid = new String(writeRecords(readTAF(), 1), StandardCharsets.UTF_8);
+        final String input = valid + "{\"unknownProperty\":{\"nested\":[1,2]}}\n[]\n" + valid + "{\"broken\":\n";
+        final NDJSONParser.Records<TAF> records = new NDJSONParser<>(TAF.class, TAFImpl.class).parse(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.SUCCESS, records.next().getStatus());
+        assertEquals(ConversionResult.Status.FAIL, records.next().getStatus());
+        assertEquals(ConversionResult.Status.FAIL, records.next().getStatus());
+        assertEquals(ConversionResult.Status.SUCCESS, records.next().getStatus());
+        assertEquals(ConversionResult.Status.FAIL, records.next().getStatus());
+        assertFalse(records.hasNext());
+        assertEquals(5, records.getRecordNumber());
+    }
+
+}
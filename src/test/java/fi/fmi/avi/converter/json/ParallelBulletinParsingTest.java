@@ -0,0 +1,118 @@
+package fi.fmi.avi.converter.json;
+
+import static fi.fmi.avi.JSONTestUtil.readToString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionIssue;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.bulletin.GenericMeteorologicalBulletin;
+import fi.fmi.avi.model.sigmet.SIGMETBulletin;
+import fi.fmi.avi.model.taf.TAF;
+import fi.fmi.avi.model.taf.TAFBulletin;
+import fi.fmi.avi.model.taf.immutable.TAFBulletinImpl;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
+
+public class ParallelBulletinParsingTest {
+
+    private static final int MESSAGES = 24;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private static String readResource(final String name) throws IOException {
+        return readToString(ParallelBulletinParsingTest.class.getResourceAsStream(name));
+    }
+
+    private static String largeTAFBulletin() throws IOException {
+        final TAFBulletin bulletin = new TAFBulletinJSONParser().convertMessage(readResource("tafBulletin1.json"), ConversionHints.EMPTY)
+                .getConvertedMessage()
+                .get();
+        final TAFBulletinImpl.Builder builder = TAFBulletinImpl.Builder.from(bulletin).clearMessages();
+        final TAFImpl taf = TAFImpl.immutableCopyOf(bulletin.getMessages().get(0));
+        for (int i = 0; i < MESSAGES; i++) {
+            builder.addMessages(taf.toBuilder().setTranslatedTAC("TAF " + i).build());
+        }
+        return new TAFBulletinJSONSerializer().convertMessage(builder.build(), ConversionHints.EMPTY).getConvertedMessage().get();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTAFBulletinMatchesSequentialParsing() throws Exception {
+        final String json = largeTAFBulletin();
+        final ConversionResult<TAFBulletin> sequential = new TAFBulletinJSONParser().convertMessage(json, ConversionHints.EMPTY);
+        final ConversionResult<TAFBulletin> parallel = new TAFBulletinJSONParser(executor).convertMessage(json, ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.SUCCESS, parallel.getStatus());
+        assertEquals(sequential.getConvertedMessage().get(), parallel.getConvertedMessage().get());
+        final TAF last = parallel.getConvertedMessage().get().getMessages().get(MESSAGES - 1);
+        assertEquals("TAF " + (MESSAGES - 1), last.getTranslatedTAC().get());
+    }
+
+    @Test
+    public void testSIGMETAndGenericBulletinsMatchSequentialParsing() throws Exception {
+        final String sigmetJSON = readResource("sigmetBulletin1.json");
+        final ConversionResult<SIGMETBulletin> sigmet = new SIGMETBulletinJSONParser(executor).convertMessage(sigmetJSON, ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.SUCCESS, sigmet.getStatus());
+        assertEquals(new SIGMETBulletinJSONParser().convertMessage(sigmetJSON, ConversionHints.EMPTY).getConvertedMessage(), sigmet.getConvertedMessage());
+
+        final String genericJSON = readResource("generic-bulletin1.json");
+        final ConversionResult<GenericMeteorologicalBulletin> generic = new GenericMeteorologicalBulletinJSONParser(executor).convertMessage(genericJSON,
+                ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.SUCCESS, generic.getStatus());
+        assertEquals(new GenericMeteorologicalBulletinJSONParser().convertMessage(genericJSON, ConversionHints.EMPTY).getConvertedMessage(),
+                generic.getConvertedMessage());
+    }
+
+    @Test
+    public void testFailingMessageDoesNotFailOthers() throws Exception {
+        final ObjectMapper om = new ObjectMapper();
+        final ObjectNode tree = (ObjectNode) om.readTree(largeTAFBulletin());
+        ((ObjectNode) ((ArrayNode) tree.get("messages")).get(3)).put("reportStatus", "UNKNOWN_STATUS");
+
+        final ConversionResult<TAFBulletin> result = new TAFBulletinJSONParser(executor).convertMessage(om.writeValueAsString(tree), ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.WITH_ERRORS, result.getStatus());
+        assertEquals(1, result.getConversionIssues().size());
+        final ConversionIssue issue = result.getConversionIssues().get(0);
+        assertEquals(ConversionIssue.Severity.ERROR, issue.getSeverity());
+        assertTrue(issue.getMessage().contains("message 4"));
+
+        final TAFBulletin bulletin = result.getConvertedMessage().get();
+        assertEquals(MESSAGES - 1, bulletin.getMessages().size());
+        assertEquals("TAF 2", bulletin.getMessages().get(2).getTranslatedTAC().get());
+        assertEquals("TAF 4", bulletin.getMessages().get(3).getTranslatedTAC().get());
+    }
+
+    @Test
+    public void testRejectedTasksAreRunOnCallingThread() throws Exception {
+        executor.shutdown();
+        final ConversionResult<TAFBulletin> result = new TAFBulletinJSONParser(executor).convertMessage(largeTAFBulletin(), ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.SUCCESS, result.getStatus());
+        assertEquals(MESSAGES, result.getConvertedMessage().get().getMessages().size());
+    }
+
+    @Test
+    public void testMalformedBulletinFails() throws Exception {
+        final String json = largeTAFBulletin();
+        final ConversionResult<TAFBulletin> result = new TAFBulletinJSONParser(executor).convertMessage(json.substring(0, json.length() / 2),
+                ConversionHints.EMPTY);
+        assertEquals(ConversionResult.Status.FAIL, result.getStatus());
+        assertFalse(result.getConvertedMessage().isPresent());
+    }
+
+}
@@ -2039,6 +2039,37 @@ public final class PartialDateTimeTest {
                 .satisfies(exception -> assertThat(exception.getErrorIndex()).as("errorIndex").isEqualTo(errorIndex));
     }
 
+    @Test
+    public void testParseRange() {
+        final String text = "VALID --02T03:04:Z UNTIL";
+        assertThat(PartialDateTime.parse(text, 6, 18)).isEqualTo(PartialDateTime.parse("--02T03:04:Z"));
+        assertThat(PartialDateTime.parseTACString(text, 8, 10, PartialField.HOUR)).isEqualTo(PartialDateTime.parseTACString("02", PartialField.HOUR));
+        assertThat(PartialDateTime.parseTACString("TAF 1906/1915", 9, 13, PartialField.HOUR))//
+                .isEqualTo(PartialDateTime.parseTACString("1915", PartialField.HOUR));
+        assertThat(PartialDateTime.parseTACStringStrict("EFHK 190815Z", 5, 12, EnumSet.of(PartialField.DAY, PartialField.HOUR, PartialField.MINUTE), true))//
+                .isEqualTo(PartialDateTime.of(19, 8, 15, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testParseRangeInvalid() {
+        assertThatExceptionOfType(DateTimeParseException.class)//
+                .isThrownBy(() -> PartialDateTime.parseTACString("TAF 1906/19X5", 9, 13, PartialField.HOUR))//
+                .satisfies(exception -> assertThat(exception.getParsedString()).as("parsedString").isEqualTo("19X5"))//
+                .satisfies(exception -> assertThat(exception.getErrorIndex()).as("errorIndex").isEqualTo(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)//
+                .isThrownBy(() -> PartialDateTime.parseTACString("1906", 2, 5, PartialField.HOUR));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)//
+                .isThrownBy(() -> PartialDateTime.parse("--02T03:04:", 3, 2));
+    }
+
+    @Test
+    public void testParseReturnsSharedInstancesOfCommonValues() {
+        assertThat(PartialDateTime.parseTACString("190815Z", PartialField.MINUTE))//
+                .isSameAs(PartialDateTime.parseTACString("EFHK 190815Z", 5, 12, PartialField.MINUTE))//
+                .isSameAs(PartialDateTime.parse("--19T08:15:Z"));
+        assertThat(PartialDateTime.parseTACString("1906", PartialField.HOUR)).isSameAs(PartialDateTime.parseTACString("1906", PartialField.HOUR));
+    }
+
     private static final class ExpectedExceptionDescription extends Description {
         private final Class<? extends Throwable> expectedException;
         private Object unexpectedResult;
@@ -0,0 +1,124 @@
+package fi.fmi.avi.model.immutable;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class DoubleListTest {
+
+    @Test
+    public void testEqualsAndHashCodeMatchList() {
+        final List<Double> boxed = Arrays.asList(60.0, 25.0, -0.0, 61.5);
+        final DoubleList list = DoubleList.copyOf(boxed);
+        assertEquals(boxed, list);
+        assertEquals(list, boxed);
+        assertEquals(boxed.hashCode(), list.hashCode());
+        assertEquals(DoubleList.of(60.0, 25.0, -0.0, 61.5), list);
+        assertEquals(2, list.indexOf(-0.0));
+        assertEquals(-1, list.indexOf(0.0));
+        assertEquals(61.5, list.getDouble(3), 0.0);
+    }
+
+    @Test
+    public void testAppendingCopiesValues() {
+        final double[] values = { 1.0, 2.0 };
+        final DoubleList list = DoubleList.of(values);
+        values[0] = 3.0;
+        final DoubleList appended = list.appending(4.0).appendingAll(Arrays.asList(5.0, 6.0));
+        assertEquals(Arrays.asList(1.0, 2.0), list);
+        assertArrayEquals(new double[] { 1.0, 2.0, 4.0, 5.0, 6.0 }, appended.toDoubleArray(), 0.0);
+        assertSame(list, list.appending());
+        assertSame(DoubleList.empty(), DoubleList.copyOf(Arrays.asList()));
+
+        final DoubleBuffer buffer = appended.asDoubleBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(5, buffer.remaining());
+    }
+
+    @Test
+    public void testGeometriesStorePackedCoordinates() {
+        final PolygonGeometryImpl polygon = PolygonGeometryImpl.builder()
+                .addExteriorRingPositions(60.0, 20.0)
+                .addAllExteriorRingPositions(Arrays.asList(61.0, 20.0, 61.0, 21.0))
+                .mutateExteriorRingPositions(positions -> positions.addAll(positions.subList(0, 2)))
+                .build();
+        assertEquals(Arrays.asList(60.0, 20.0, 61.0, 20.0, 61.0, 21.0, 60.0, 20.0), polygon.getExteriorRingPositions());
+        assertSame(polygon.getExteriorRingPositions(), polygon.toBuilder().build().getExteriorRingPositions());
+
+        final MultiPolygonGeometryImpl multiPolygon = MultiPolygonGeometryImpl.builder()
+                .addAllExteriorRingPositions(Arrays.asList(Arrays.asList(1.0, 1.0, 2.0, 2.0, 1.0, 1.0), polygon.getExteriorRingPositions()))
+                .build();
+        assertTrue(multiPolygon.getExteriorRingPositions().get(0) instanceof DoubleList);
+        assertSame(polygon.getExteriorRingPositions(), multiPolygon.getExteriorRingPositions().get(1));
+
+        assertEquals(DoubleList.of(25.0, 60.0), PointGeometryImpl.builder().addCoordinates(25.0, 60.0).build().getCoordinates());
+        assertTrue(PointGeometryImpl.builder().build().getCoordinates().isEmpty());
+    }
+
+    @Test
+    public void testBuilderListMethods() {
+        final DoubleList expected = DoubleList.of(60.0, 25.0, 61.0, 26.0);
+        assertEquals(expected, PolygonGeometryImpl.builder()
+                .addExteriorRingPositions(60.0)
+                .addExteriorRingPositions(25.0)
+                .addAllExteriorRingPositions(Arrays.asList(61.0, 26.0).spliterator())
+                .build()
+                .getExteriorRingPositions());
+        assertEquals(expected, PointGeometryImpl.builder().addAllCoordinates(Stream.of(60.0, 25.0, 61.0, 26.0)).build().getCoordinates());
+        assertEquals(expected, ElevatedPointImpl.builder()
+                .addCoordinates(60.0)
+                .addAllCoordinates(Arrays.asList(25.0, 61.0, 26.0).spliterator())
+                .getCoordinates());
+        assertEquals(expected, CircleByCenterPointImpl.builder()
+                .addCenterPointCoordinates(60.0)
+                .addAllCenterPointCoordinates(Stream.of(25.0, 61.0, 26.0))
+                .getCenterPointCoordinates());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() {
+        DoubleList.of(1.0).add(2.0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullElementRejected() {
+        DoubleList.copyOf(Arrays.asList(1.0, null));
+    }
+
+    @Test
+    public void testJsonRoundTrip() throws Exception {
+        final ObjectMapper om = new ObjectMapper();
+        final DoubleList list = DoubleList.of(60.25, 24.5);
+        final String json = om.writeValueAsString(list);
+        assertEquals("[60.25,24.5]", json);
+        assertEquals(list, om.readValue(json, DoubleList.class));
+    }
+
+    @Test
+    public void testJavaSerialization() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(DoubleList.of(1.0, 2.0));
+            out.writeObject(DoubleList.empty());
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(DoubleList.of(1.0, 2.0), in.readObject());
+            assertSame(DoubleList.empty(), in.readObject());
+        }
+    }
+
+}
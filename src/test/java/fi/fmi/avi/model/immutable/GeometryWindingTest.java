@@ -3,13 +3,13 @@ package fi.fmi.avi.model.immutable;
 import fi.fmi.avi.model.MultiPolygonGeometry;
 import fi.fmi.avi.model.PolygonGeometry;
 import fi.fmi.avi.model.Winding;
-import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class GeometryWindingTest {
 
@@ -55,13 +55,8 @@ public class GeometryWindingTest {
      * This test verifies that winding detection works correctly for polygons
      * that cross the antimeridian at 180°/-180° longitude.
      * </p>
-     * <p>
-     * KNOWN BUG: The current implementation using JTS Orientation.isCCW() fails for
-     * such polygons.
-     * </p>
      */
     @Test
-    @Ignore("Known issue: Winding detection fails for polygons crossing the antimeridian")
     public void testPolygonWindingCrossingAntimeridianCCWInput() {
         final List<Double> ccwCoords = Arrays.asList(
                 5.0, -155.0,   // N05 W155
@@ -92,4 +87,39 @@ public class GeometryWindingTest {
         assertEquals(cwCoords, polygon.getExteriorRingPositions(Winding.CLOCKWISE));
     }
 
+    @Test
+    public void testPolygonWindingCrossingAntimeridianCWInput() {
+        final List<Double> cwCoords = Arrays.asList(10.0, 170.0, 10.0, -170.0, 0.0, -170.0, 0.0, 170.0, 10.0, 170.0);
+        final PolygonGeometryImpl polygon = PolygonGeometryImpl.builder()
+                .addAllExteriorRingPositions(cwCoords)
+                .build();
+
+        assertEquals(Winding.CLOCKWISE, polygon.getExteriorRingWinding());
+        assertEquals(Winding.CLOCKWISE, polygon.getExteriorRingWinding());
+        assertSame(polygon.getExteriorRingPositions(), polygon.getExteriorRingPositions(Winding.CLOCKWISE));
+        assertEquals(Arrays.asList(10.0, 170.0, 0.0, 170.0, 0.0, -170.0, 10.0, -170.0, 10.0, 170.0),
+                polygon.getExteriorRingPositions(Winding.COUNTERCLOCKWISE));
+        assertEquals(Winding.COUNTERCLOCKWISE, Winding.getWinding(polygon.getExteriorRingPositions(Winding.COUNTERCLOCKWISE)));
+    }
+
+    @Test
+    public void testPolygonWindingCrossingAntimeridianWithVerticesOnAntimeridian() {
+        // N10E170 - N10E180 - N10W170 - N00W170 - N00E180 - N00E170 - N10E170
+        final List<Double> cwCoords = Arrays.asList(10.0, 170.0, 10.0, 180.0, 10.0, -170.0, 0.0, -170.0, 0.0, 180.0, 0.0, 170.0, 10.0, 170.0);
+        final PolygonGeometry polygon = PolygonGeometryImpl.builder()
+                .addAllExteriorRingPositions(cwCoords)
+                .build();
+
+        assertEquals(Winding.CLOCKWISE, polygon.getExteriorRingWinding());
+        assertSame(polygon.getExteriorRingPositions(), polygon.getExteriorRingPositions(Winding.CLOCKWISE));
+        assertEquals(Winding.COUNTERCLOCKWISE, Winding.getWinding(Winding.reverse(cwCoords)));
+    }
+
+    @Test
+    public void testOpenRingIsNotReversed() {
+        final List<Double> openCoords = Arrays.asList(60.0, 20.0, 61.0, 20.0, 61.0, 21.0);
+        assertSame(openCoords, Winding.enforceWinding(openCoords, Winding.COUNTERCLOCKWISE));
+        assertSame(openCoords, Winding.enforceWinding(openCoords, Winding.CLOCKWISE));
+    }
+
 }
@@ -0,0 +1,82 @@
+package fi.fmi.avi.model.immutable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.google.common.testing.SerializableTester;
+
+import fi.fmi.avi.JSONTestUtil;
+import fi.fmi.avi.model.metar.immutable.METARImpl;
+import fi.fmi.avi.model.metar.immutable.SPECIImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETImpl;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
+
+public class ValueEqualityTest {
+
+    private static TAFImpl readTAF() throws Exception {
+        return JSONTestUtil.readFromJSON(TAFImpl.class.getResourceAsStream("taf1.json"), TAFImpl.class);
+    }
+
+    private static int countValueFields(final Class<?> valueClass) {
+        return (int) Arrays.stream(valueClass.getDeclaredFields())//
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())//
+                .count();
+    }
+
+    private static int countEqualityProperties(final Class<?> messageClass) throws Exception {
+        final Field field = messageClass.getDeclaredField("EQUALITY");
+        field.setAccessible(true);
+        return ((ValueEquality<?>) field.get(null)).size();
+    }
+
+    @Test
+    public void testMessageEqualityCoversAllProperties() throws Exception {
+        for (final Class<?> messageClass : Arrays.asList(TAFImpl.class, METARImpl.class, SPECIImpl.class, SIGMETImpl.class)) {
+            final Class<?> valueClass = Class.forName(messageClass.getName() + "_Builder$Value");
+            assertEquals(messageClass.getSimpleName(), countValueFields(valueClass), countEqualityProperties(messageClass));
+        }
+    }
+
+    @Test
+    public void testEqualsAndHashCode() throws Exception {
+        final TAFImpl taf = readTAF();
+        final TAFImpl copy = readTAF();
+        final TAFImpl modified = taf.toBuilder().setTranslatedTAC("TAF EFVA 271137Z 2712/2812 14015G25KT 8000 -RA SCT020 OVC050=").build();
+        assertNotSame(taf, copy);
+        assertEquals(taf, copy);
+        assertEquals(taf.hashCode(), copy.hashCode());
+        assertNotEquals(taf, modified);
+        assertNotEquals(taf, taf.toBuilder().buildPartial());
+        assertEquals(taf, SerializableTester.reserialize(taf));
+    }
+
+    @Test
+    public void testContentFingerprint() throws Exception {
+        final TAFImpl taf = readTAF();
+        assertSame(taf.contentFingerprint(), taf.contentFingerprint());
+        assertEquals(taf.contentFingerprint(), readTAF().contentFingerprint());
+        assertEquals(taf.contentFingerprint(), SerializableTester.reserialize(taf).contentFingerprint());
+        assertNotEquals(taf.contentFingerprint(), taf.toBuilder().setTranslated(true).build().contentFingerprint());
+    }
+
+    @Test
+    public void testContentFingerprintIsUnambiguous() throws Exception {
+        final TAFImpl taf = readTAF();
+        assertNotEquals(taf.toBuilder().setRemarks(Collections.singletonList("RMK A, B")).build().contentFingerprint(),
+                taf.toBuilder().setRemarks(Arrays.asList("RMK A", "B")).build().contentFingerprint());
+        assertNotEquals(taf.toBuilder().setRemarks(Collections.emptyList()).build().contentFingerprint(),
+                taf.toBuilder().clearRemarks().build().contentFingerprint());
+        assertNotEquals(taf.toBuilder().setTranslatedTAC("").build().contentFingerprint(),
+                taf.toBuilder().clearTranslatedTAC().build().contentFingerprint());
+    }
+
+}
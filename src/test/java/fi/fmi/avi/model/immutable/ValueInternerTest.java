@@ -0,0 +1,67 @@
+package fi.fmi.avi.model.immutable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class ValueInternerTest {
+
+    private static NumericMeasureImpl measure(final double value) {
+        return NumericMeasureImpl.of(value, "degC");
+    }
+
+    @Test
+    public void testEqualValuesShareInstance() {
+        final ValueInterner interner = new ValueInterner(100);
+        final NumericMeasureImpl first = measure(12.0);
+        final NumericMeasureImpl second = measure(12.0);
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, NumericMeasureImpl.immutableCopyOf(second, interner));
+        assertNull(interner.intern(null));
+
+        final ValueInterner.Statistics statistics = interner.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedValueIsEvicted() {
+        final ValueInterner interner = new ValueInterner(2);
+        final NumericMeasureImpl first = interner.intern(measure(1.0));
+        interner.intern(measure(2.0));
+        interner.intern(measure(1.0));
+        interner.intern(measure(3.0));
+
+        assertEquals(2, interner.size());
+        assertEquals(1, interner.getStatistics().getEvictionCount());
+        assertSame(first, interner.intern(measure(1.0)));
+        final NumericMeasureImpl second = measure(2.0);
+        assertSame(second, interner.intern(second));
+    }
+
+    @Test
+    public void testSegmentedInternerKeepsMaximumSize() {
+        final ValueInterner interner = new ValueInterner(1000);
+        for (int i = 0; i < 5000; i++) {
+            interner.intern(measure(i));
+        }
+        assertEquals(1000, interner.size());
+        assertEquals(4000, interner.getStatistics().getEvictionCount());
+
+        interner.clear();
+        assertEquals(0, interner.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaximumSizeMustBePositive() {
+        new ValueInterner(0);
+    }
+
+}
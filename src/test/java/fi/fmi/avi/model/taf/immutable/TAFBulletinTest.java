@@ -1,6 +1,7 @@
 package fi.fmi.avi.model.taf.immutable;
 
 import fi.fmi.avi.JSONTestUtil;
+import fi.fmi.avi.model.PartialDateTime;
 import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT1;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT2;
@@ -13,9 +14,14 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
 public final class TAFBulletinTest {
 
     @Test
@@ -86,4 +92,33 @@ public final class TAFBulletinTest {
         bulletinBuilder.build();
     }
 
+    @Test
+    public void testWithAllTimesComplete() throws Exception {
+        final TAF partial = JSONTestUtil.readFromJSON(TAFBulletinTest.class.getResourceAsStream("taf1.json"), TAFImpl.class);
+        final TAF complete = TAFImpl.immutableCopyOf(partial).toBuilder()//
+                .withAllTimesComplete(ZonedDateTime.of(2017, 7, 27, 11, 37, 0, 0, ZoneOffset.UTC))//
+                .build();
+        final TAFBulletinImpl.Builder bulletinBuilder = TAFBulletinImpl.builder()//
+                .setHeading(BulletinHeadingImpl.builder()//
+                        .setGeographicalDesignator("FI")//
+                        .setLocationIndicator("EFKL")//
+                        .setBulletinNumber(31)//
+                        .setDataTypeDesignatorT1ForTAC(DataTypeDesignatorT1.FORECASTS)
+                        .setDataTypeDesignatorT2(DataTypeDesignatorT2.ForecastsDataTypeDesignatorT2.FCT_AERODROME_VT_LONG)//
+                        .setIssueTime(PartialOrCompleteTimeInstant.of(PartialDateTime.ofDayHourMinuteZone(27, 11, 40, ZoneOffset.UTC)))//
+                        .build())//
+                .addMessages(partial, complete);
+
+        for (final boolean parallel : new boolean[] { false, true }) {
+            final TAFBulletinImpl bulletin = bulletinBuilder.build().toBuilder()//
+                    .withAllTimesComplete(ZonedDateTime.of(2017, 8, 2, 0, 0, 0, 0, ZoneOffset.UTC), parallel)//
+                    .build();
+            assertEquals(ZonedDateTime.of(2017, 7, 27, 11, 40, 0, 0, ZoneOffset.UTC), bulletin.getHeading().getIssueTime().getCompleteTime().orElse(null));
+            assertEquals(2, bulletin.getMessages().size());
+            assertTrue(bulletin.getMessages().get(0).areAllTimeReferencesComplete());
+            assertEquals(complete, bulletin.getMessages().get(0));
+            assertSame(complete, bulletin.getMessages().get(1));
+        }
+    }
+
 }